@@ -0,0 +1,212 @@
+package com.app.localgroup.benchmarks;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Runs the benchmarks and compares them with the committed baseline.
+ *
+ * Arguments (any order):
+ *   --baseline=PATH     baseline file (default benchmarks/baseline.txt, run from backend/)
+ *   --threshold=PCT     slowdown that counts as a regression (default 15)
+ *   --update-baseline   rewrite the baseline from this run instead of comparing
+ *   anything else       benchmark include regex, as with the plain JMH runner
+ *
+ * Exits with status 1 when a benchmark regressed beyond the threshold, so the
+ * run can gate a review, and with status 2 when the baseline holds no
+ * measurements at all: nothing was compared, which must not read as a pass.
+ * The baseline is plain text, one benchmark per line, so a refreshed baseline
+ * reads as an ordinary diff; its header records the machine and JDK it was
+ * measured on, since scores from another setup are not comparable.
+ */
+public final class BenchmarkMain {
+
+    private static final String PACKAGE_PREFIX = "com.app.localgroup.";
+
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path baselineFile = Path.of("benchmarks", "baseline.txt");
+        double threshold = 15.0;
+        boolean update = false;
+        List<String> includes = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("--baseline=")) {
+                baselineFile = Path.of(arg.substring("--baseline=".length()));
+            } else if (arg.startsWith("--threshold=")) {
+                threshold = Double.parseDouble(arg.substring("--threshold=".length()));
+            } else if (arg.equals("--update-baseline")) {
+                update = true;
+            } else {
+                includes.add(arg);
+            }
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder();
+        if (includes.isEmpty()) {
+            options.include(PACKAGE_PREFIX.replace(".", "\\.") + ".*Benchmark");
+        } else {
+            includes.forEach(options::include);
+        }
+        Collection<RunResult> results = new Runner(options.build()).run();
+
+        Map<String, Score> current = new TreeMap<>();
+        for (RunResult run : results) {
+            Result<?> primary = run.getPrimaryResult();
+            current.put(key(run), new Score(
+                    run.getParams().getMode().shortLabel(),
+                    primary.getScore(),
+                    primary.getScoreError(),
+                    primary.getScoreUnit()));
+        }
+
+        if (update) {
+            Map<String, Score> merged = new TreeMap<>(readBaseline(baselineFile));
+            merged.putAll(current);
+            writeBaseline(baselineFile, merged);
+            System.out.printf("Baseline updated: %s (%d benchmarks)%n", baselineFile, merged.size());
+            return;
+        }
+
+        Map<String, Score> baseline = readBaseline(baselineFile);
+        if (baseline.isEmpty()) {
+            System.out.printf("Baseline %s holds no measurements; nothing was compared.%n"
+                    + "Record one on the reference machine with --update-baseline.%n", baselineFile);
+            System.exit(2);
+        }
+        if (!compare(baseline, current, threshold)) {
+            System.exit(1);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Comparison
+    // -------------------------------------------------------------------------
+
+    private static boolean compare(Map<String, Score> baseline, Map<String, Score> current, double threshold) {
+        boolean ok = true;
+        System.out.printf("%n%-72s %14s %14s %9s%n", "Benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null || !before.mode().equals(now.mode()) || !before.unit().equals(now.unit())) {
+                System.out.printf("%-72s %14s %14s %9s%n", entry.getKey(), "-", now.format(), "new");
+                continue;
+            }
+            double slowdown = now.slowdownPercentFrom(before);
+            boolean regressed = slowdown > threshold;
+            ok &= !regressed;
+            System.out.printf("%-72s %14s %14s %+8.1f%%%s%n",
+                    entry.getKey(), before.format(), now.format(), slowdown, regressed ? "  REGRESSION" : "");
+        }
+        if (!ok) {
+            System.out.printf("%nOne or more benchmarks are more than %.0f%% slower than the baseline.%n", threshold);
+        }
+        return ok;
+    }
+
+    /**
+     * Benchmark name relative to the application package, with parameters,
+     * e.g. {@code group.GroupServiceBenchmark.toDto:members=6,status=ACTIVE}.
+     */
+    private static String key(RunResult run) {
+        String name = run.getParams().getBenchmark();
+        if (name.startsWith(PACKAGE_PREFIX)) name = name.substring(PACKAGE_PREFIX.length());
+        StringBuilder sb = new StringBuilder(name);
+        char separator = ':';
+        for (String param : run.getParams().getParamsKeys()) {
+            sb.append(separator).append(param).append('=').append(run.getParams().getParam(param));
+            separator = ',';
+        }
+        return sb.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // Baseline file: "<key>\t<mode>\t<score>\t<error>\t<unit>", '#' comments
+    // -------------------------------------------------------------------------
+
+    private static Map<String, Score> readBaseline(Path file) throws IOException {
+        Map<String, Score> baseline = new TreeMap<>();
+        if (!Files.exists(file)) {
+            System.out.printf("No baseline at %s; every benchmark is reported as new.%n", file);
+            return baseline;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.startsWith("#")) continue;
+            String[] f = line.split("\t");
+            if (f.length != 5) continue;
+            baseline.put(f[0], new Score(f[1], Double.parseDouble(f[2]), Double.parseDouble(f[3]), f[4]));
+        }
+        return baseline;
+    }
+
+    private static void writeBaseline(Path file, Map<String, Score> scores) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# JMH baseline for backend/benchmarks. Regenerate on the reference machine with");
+        lines.add("#   java -jar benchmarks/target/benchmarks.jar --update-baseline");
+        lines.add("# and commit it together with the change that moved the numbers.");
+        lines.add("# machine: " + machine());
+        lines.add("# jdk: " + System.getProperty("java.vm.vendor") + " " + System.getProperty("java.vm.name")
+                + " " + System.getProperty("java.runtime.version"));
+        lines.add("# key\tmode\tscore\terror\tunit");
+        for (Map.Entry<String, Score> entry : scores.entrySet()) {
+            Score s = entry.getValue();
+            lines.add(String.join("\t", entry.getKey(), s.mode(),
+                    String.format(Locale.ROOT, "%.3f", s.score()),
+                    String.format(Locale.ROOT, "%.3f", Double.isNaN(s.error()) ? 0.0 : s.error()),
+                    s.unit()));
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    private static String machine() {
+        return String.format(Locale.ROOT, "%s%s %s %s, %d cpus",
+                cpuModel().map(model -> model + ", ").orElse(""),
+                System.getProperty("os.name"), System.getProperty("os.version"), System.getProperty("os.arch"),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /** CPU model from /proc/cpuinfo; empty where that file does not exist. */
+    private static Optional<String> cpuModel() {
+        try (Stream<String> lines = Files.lines(Path.of("/proc/cpuinfo"))) {
+            return lines.filter(line -> line.startsWith("model name"))
+                    .map(line -> line.substring(line.indexOf(':') + 1).trim())
+                    .findFirst();
+        } catch (IOException | UncheckedIOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private record Score(String mode, double score, double error, String unit) {
+
+        /** Positive when slower, for both time-per-op and ops-per-time modes. */
+        double slowdownPercentFrom(Score before) {
+            if (before.score() == 0) return 0;
+            double ratio = mode.equals("thrpt") ? before.score() / score : score / before.score();
+            return (ratio - 1.0) * 100.0;
+        }
+
+        String format() {
+            return String.format(Locale.ROOT, "%.3f %s", score, unit);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.app.localgroup.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Repository stand-ins for benchmarks: answers the named methods from
+ * in-memory data so measurements exclude Mongo round trips.
+ * Any other repository method fails loudly rather than returning null.
+ */
+public final class InMemoryRepositories {
+
+    private InMemoryRepositories() {}
+
+    public static <R> R of(Class<R> type, Map<String, Function<Object[], Object>> answers) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    return answer.apply(args);
+                }));
+    }
+}
@@ -0,0 +1,56 @@
+package com.app.localgroup.chat;
+
+import com.app.localgroup.chat.codec.CompactChatCodec;
+import com.app.localgroup.chat.dto.ChatMessageDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of producing one outgoing chat frame: bean-serialized JSON (what the
+ * STOMP message converter does for /topic/group/{id}) against the compact
+ * positional encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatMessageSerializationBenchmark {
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private ChatMessageDTO message;
+
+    @Setup
+    public void setUp() {
+        message = ChatMessageDTO.builder()
+                .groupId("64f1c2a9e4b0a1b2c3d4e5f6")
+                .senderId("64f1c2a9e4b0a1b2c3d4e5f7")
+                .senderUsername("bench_user")
+                .content("Running ten minutes late, save me a seat near the window \"please\"")
+                .timestamp(Instant.parse("2026-01-01T18:30:00Z"))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] jackson() {
+        return mapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public String compact() {
+        return CompactChatCodec.encode(message);
+    }
+}
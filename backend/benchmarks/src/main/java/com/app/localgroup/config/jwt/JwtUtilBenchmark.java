@@ -0,0 +1,56 @@
+package com.app.localgroup.config.jwt;
+
+import com.app.localgroup.user.model.Gender;
+import com.app.localgroup.user.model.User;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token verification: a full signature check (verified-token
+ * cache disabled) against a verified-token cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-at-least-32-bytes!!";
+
+    private JwtUtil uncached;
+    private JwtUtil cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = new JwtUtil(SECRET, 3_600_000, 0);
+        cached = new JwtUtil(SECRET, 3_600_000, 10_000);
+        token = cached.issueToken(User.builder()
+                .id("64f1c2a9e4b0a1b2c3d4e5f6").email("bench@example.com").phone("+910000000000")
+                .username("bench_user").age(27).gender(Gender.OTHER)
+                .build());
+    }
+
+    @Benchmark
+    public Claims parseClaimsVerified() {
+        return uncached.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims parseClaimsCacheHit() {
+        return cached.parseClaims(token);
+    }
+}
@@ -0,0 +1,144 @@
+package com.app.localgroup.group;
+
+import com.app.localgroup.benchmarks.InMemoryRepositories;
+import com.app.localgroup.common.retry.OptimisticRetry;
+import com.app.localgroup.group.cache.GroupDtoCache;
+import com.app.localgroup.group.dto.GroupDto;
+import com.app.localgroup.group.model.GenderRestriction;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.repository.GroupMemberRepository;
+import com.app.localgroup.group.repository.GroupRepository;
+import com.app.localgroup.group.repository.GroupSummaryRepository;
+import com.app.localgroup.metrics.MetricsRegistry;
+import com.app.localgroup.place.PlaceService;
+import com.app.localgroup.place.model.Place;
+import com.app.localgroup.place.repository.PlaceRepository;
+import com.app.localgroup.user.cache.UserSnapshotCache;
+import com.app.localgroup.user.model.Gender;
+import com.app.localgroup.user.model.User;
+import com.app.localgroup.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GroupService.toDto and the join-time gender check, with repositories
+ * answered from memory. toDto is measured for a JOINABLE group (counts only)
+ * and an ACTIVE one (counts plus the member list); getGroupByIdCached is the
+ * same read served from GroupDtoCache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupServiceBenchmark {
+
+    @Param({ "2", "6" })
+    int members;
+
+    @Param({ "JOINABLE", "ACTIVE" })
+    Group.Status status;
+
+    private GroupService groupService;
+    private Group group;
+    private Group femaleOnly;
+    private String viewerId;
+
+    @Setup
+    public void setUp() {
+        group = Group.builder()
+                .id("g1").placeId("p1").creatorId("u0")
+                .dateTime(Instant.now().plusSeconds(3600))
+                .maxSize(6)
+                .visibility(Group.Visibility.PUBLIC)
+                .status(status)
+                .build();
+        femaleOnly = Group.builder().id("g2").genderRestriction(GenderRestriction.FEMALE_ONLY).build();
+
+        List<GroupMember> memberList = new ArrayList<>();
+        Map<String, User> users = new HashMap<>();
+        for (int i = 0; i < members; i++) {
+            String userId = "u" + i;
+            memberList.add(GroupMember.builder().id("m" + i).groupId("g1").userId(userId).confirmed(i % 2 == 0).build());
+            users.put(userId, User.builder().id(userId).username("user" + i).age(25).gender(Gender.FEMALE).build());
+        }
+        viewerId = memberList.get(members - 1).getUserId();
+
+        Place place = Place.builder().id("p1").name("Blue Tokai").category(Place.Category.CAFE).build();
+
+        GroupMemberRepository memberRepository = InMemoryRepositories.of(GroupMemberRepository.class,
+                Map.of("findByGroupId", args -> memberList));
+        GroupRepository groupRepository = InMemoryRepositories.of(GroupRepository.class,
+                Map.of("findByPlaceId", args -> List.of(group),
+                        "findById", args -> Optional.of(group)));
+        PlaceRepository placeRepository = InMemoryRepositories.of(PlaceRepository.class,
+                Map.of("findById", args -> Optional.of(place)));
+        UserRepository userRepository = InMemoryRepositories.of(UserRepository.class, Map.of(
+                "findById", args -> Optional.ofNullable(users.get((String) args[0])),
+                "findSnapshotsByIdIn", args -> {
+                    List<User> found = new ArrayList<>();
+                    for (Object id : (Iterable<?>) args[0]) {
+                        if (users.containsKey(id)) found.add(users.get(id));
+                    }
+                    return found;
+                }));
+
+        groupService = new GroupService(
+                groupRepository,
+                memberRepository,
+                InMemoryRepositories.of(GroupSummaryRepository.class, Map.of()),
+                new PlaceService(placeRepository, groupRepository, event -> {}),
+                null,
+                null,
+                null,
+                new UserSnapshotCache(userRepository, 1_000, 60_000),
+                new GroupDtoCache(1_000, 60_000),
+                new OptimisticRetry(new MetricsRegistry(), 4, 5),
+                event -> {});
+    }
+
+    @Benchmark
+    public GroupDto toDto() {
+        return groupService.toDto(group, viewerId);
+    }
+
+    @Benchmark
+    public GroupDto getGroupByIdCached() {
+        return groupService.getGroupById("g1", viewerId);
+    }
+
+    @Benchmark
+    public Group enforceGenderRestrictionAllowed() {
+        groupService.enforceGenderRestriction(femaleOnly, Gender.FEMALE);
+        return femaleOnly;
+    }
+
+    @Benchmark
+    public Object enforceGenderRestrictionRejected() {
+        try {
+            groupService.enforceGenderRestriction(femaleOnly, Gender.MALE);
+            return null;
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+}
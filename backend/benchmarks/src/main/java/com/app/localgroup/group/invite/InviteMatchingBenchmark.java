@@ -0,0 +1,53 @@
+package com.app.localgroup.group.invite;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Private-group invite checks: a legacy invite code matched against its
+ * BCrypt hash (same encoder settings as GroupService) and a signed invite
+ * token verified by HMAC. Reported in microseconds; BCrypt dominates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InviteMatchingBenchmark {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private final InviteTokenService tokens =
+            new InviteTokenService("", "benchmark-secret-key-at-least-32-bytes!!", Duration.ofHours(48));
+
+    private String inviteCodeHash;
+    private String signedToken;
+
+    @Setup
+    public void setUp() {
+        inviteCodeHash = encoder.encode("sunset-walk-42");
+        signedToken = tokens.issue("g1", null).token();
+    }
+
+    @Benchmark
+    public boolean bcryptMatch() {
+        return encoder.matches("sunset-walk-42", inviteCodeHash);
+    }
+
+    @Benchmark
+    public InviteTokenStatus signedTokenVerify() {
+        return tokens.verify("g1", signedToken);
+    }
+}
@@ -0,0 +1,72 @@
+package com.app.localgroup.place;
+
+import com.app.localgroup.benchmarks.InMemoryRepositories;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.repository.GroupRepository;
+import com.app.localgroup.place.dto.PlaceDto;
+import com.app.localgroup.place.model.Place;
+import com.app.localgroup.place.repository.PlaceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PlaceService.toDto, including the active-group count it derives from the
+ * place's groups (a third of them expired or private).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceServiceBenchmark {
+
+    @Param({ "0", "30" })
+    int groupsAtPlace;
+
+    private PlaceService placeService;
+    private Place place;
+
+    @Setup
+    public void setUp() {
+        place = Place.builder()
+                .id("p1").name("Cubbon Park").category(Place.Category.PARK)
+                .geoLocation(new GeoJsonPoint(77.5946, 12.9716))
+                .tags(List.of("outdoor", "walks"))
+                .build();
+
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < groupsAtPlace; i++) {
+            groups.add(Group.builder()
+                    .id("g" + i).placeId("p1")
+                    .visibility(i % 3 == 1 ? Group.Visibility.PRIVATE : Group.Visibility.PUBLIC)
+                    .status(i % 3 == 2 ? Group.Status.EXPIRED : Group.Status.JOINABLE)
+                    .build());
+        }
+
+        placeService = new PlaceService(
+                InMemoryRepositories.of(PlaceRepository.class, Map.of()),
+                InMemoryRepositories.of(GroupRepository.class, Map.of("findByPlaceId", args -> groups)),
+                event -> {});
+    }
+
+    @Benchmark
+    public PlaceDto toDto() {
+        return placeService.toDto(place);
+    }
+}
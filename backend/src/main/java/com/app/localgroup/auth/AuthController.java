@@ -4,6 +4,7 @@ import com.app.localgroup.auth.dto.RequestOtpDto;
 import com.app.localgroup.auth.dto.RequestOtpResponseDto;
 import com.app.localgroup.auth.dto.VerifyOtpDto;
 import com.app.localgroup.common.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -26,9 +27,10 @@ public class AuthController {
 
     @PostMapping("/request-otp")
     public ResponseEntity<ApiResponse<RequestOtpResponseDto>> requestOtp(
-            @Valid @RequestBody RequestOtpDto dto
+            @Valid @RequestBody RequestOtpDto dto,
+            HttpServletRequest request
     ) {
-        String otp = authService.generateOtp(dto.getEmail(), dto.getPhone());
+        String otp = authService.generateOtp(dto.getEmail(), dto.getPhone(), request.getRemoteAddr());
 
         // DEMO MODE: Return OTP in response for immediate display in UI
         RequestOtpResponseDto responseData = RequestOtpResponseDto.builder()
@@ -49,12 +51,14 @@ public class AuthController {
 
     @PostMapping("/verify-otp")
     public ResponseEntity<ApiResponse<String>> verifyOtp(
-            @Valid @RequestBody VerifyOtpDto dto
+            @Valid @RequestBody VerifyOtpDto dto,
+            HttpServletRequest request
     ) {
         String token = authService.verifyOtpAndIssueToken(
                 dto.getEmail(),
                 dto.getPhone(),
-                dto.getOtp()
+                dto.getOtp(),
+                request.getRemoteAddr()
         );
 
         return ResponseEntity.ok(
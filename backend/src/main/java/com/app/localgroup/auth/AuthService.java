@@ -1,25 +1,18 @@
 package com.app.localgroup.auth;
 
 import com.app.localgroup.auth.exception.UnauthorizedException;
+import com.app.localgroup.auth.otp.OtpStore;
+import com.app.localgroup.auth.otp.OtpThrottle;
+import com.app.localgroup.auth.otp.OtpVerification;
 import com.app.localgroup.common.Constants;
+import com.app.localgroup.config.jwt.JwtUtil;
 import com.app.localgroup.user.model.User;
 import com.app.localgroup.user.repository.UserRepository;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
-import java.time.Instant;
-import java.util.Date;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * AuthService for OTP-based authentication.
  * 
@@ -38,28 +31,34 @@ public class AuthService {
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
     private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
-
-    @Value("${app.jwt.expiration-ms}")
-    private long jwtExpirationMs;
-
-    // In-memory OTP store for MVP
-    // key -> OTP + timestamp
-    private final Map<String, OtpEntry> otpStore = new ConcurrentHashMap<>();
+    // OTP storage, in-memory or shared via Mongo (app.otp.store; TTL and attempt limit under app.otp)
+    private final OtpStore otpStore;
 
-    private static final long OTP_EXPIRY_SECONDS = 300; // 5 minutes
+    // Sliding-window limits and failure lockouts (configured under app.auth.throttle)
+    private final OtpThrottle otpThrottle;
 
     public String generateOtp(String email, String phone) {
+        return generateOtp(email, phone, null);
+    }
+
+    public String generateOtp(String email, String phone, String clientIp) {
         // Check if this is the mock account
         boolean isMockAccount = Constants.MOCK_ACCOUNT_EMAIL.equals(email) && 
                                 Constants.MOCK_ACCOUNT_PHONE.equals(phone);
+
+        // The shared demo account is only limited per IP, so one visitor cannot lock it for everyone
+        if (isMockAccount) {
+            otpThrottle.checkRequest(null, null, clientIp);
+        } else {
+            otpThrottle.checkRequest(email, phone, clientIp);
+        }
         
         String otp = isMockAccount ? Constants.MOCK_ACCOUNT_OTP : 
                      String.valueOf((int) (Math.random() * 900000) + 100000);
         
-        otpStore.put(key(email, phone), new OtpEntry(otp, Instant.now()));
+        otpStore.put(key(email, phone), otp);
         
         // DEMO MODE: Log OTP to console for display in UI
         if (isMockAccount) {
@@ -82,37 +81,51 @@ public class AuthService {
     }
 
     public String verifyOtpAndIssueToken(String email, String phone, String otp) {
+        return verifyOtpAndIssueToken(email, phone, otp, null);
+    }
+
+    public String verifyOtpAndIssueToken(String email, String phone, String otp, String clientIp) {
         String mapKey = key(email, phone);
         
         // Check if this is the mock account
         boolean isMockAccount = Constants.MOCK_ACCOUNT_EMAIL.equals(email) && 
                                 Constants.MOCK_ACCOUNT_PHONE.equals(phone);
+
+        // Locked-out accounts and IPs are rejected before the OTP store or repository is touched
+        String throttleKey = isMockAccount ? null : mapKey;
+        otpThrottle.checkVerify(throttleKey, clientIp);
         
         if (isMockAccount) {
             // For mock account, validate against the static mock OTP
             if (!Constants.MOCK_ACCOUNT_OTP.equals(otp)) {
+                otpThrottle.recordFailure(null, clientIp);
                 log.warn("DEMO: Invalid OTP for mock account - received: {}", otp);
                 throw new UnauthorizedException("Invalid OTP");
             }
             log.info("DEMO: OTP verified for mock account");
         } else {
-            // Normal OTP validation flow (demo mode)
-            OtpEntry entry = otpStore.get(mapKey);
-
-            if (entry == null) {
-                log.warn("OTP verification failed: No OTP found for email: {}, phone: {}", email, phone);
-                throw new UnauthorizedException("Invalid OTP");
-            }
-
-            if (!entry.otp().equals(otp)) {
-                log.warn("OTP verification failed: Invalid OTP for email: {}, phone: {}", email, phone);
-                throw new UnauthorizedException("Invalid OTP");
+            // Normal OTP validation flow (demo mode); a VALID result consumes the code
+            OtpVerification result = otpStore.verify(mapKey, otp);
+            if (result == OtpVerification.VALID) {
+                otpThrottle.recordSuccess(throttleKey);
+            } else {
+                otpThrottle.recordFailure(throttleKey, clientIp);
             }
 
-            if (Instant.now().isAfter(entry.createdAt().plusSeconds(OTP_EXPIRY_SECONDS))) {
-                otpStore.remove(mapKey);
-                log.warn("OTP verification failed: OTP expired for email: {}, phone: {}", email, phone);
-                throw new UnauthorizedException("OTP expired");
+            switch (result) {
+                case VALID -> { }
+                case EXPIRED -> {
+                    log.warn("OTP verification failed: OTP expired for email: {}, phone: {}", email, phone);
+                    throw new UnauthorizedException("OTP expired");
+                }
+                case TOO_MANY_ATTEMPTS -> {
+                    log.warn("OTP verification failed: too many attempts for email: {}, phone: {}", email, phone);
+                    throw new UnauthorizedException("Too many invalid attempts. Please request a new OTP");
+                }
+                default -> {
+                    log.warn("OTP verification failed: {} for email: {}, phone: {}", result, email, phone);
+                    throw new UnauthorizedException("Invalid OTP");
+                }
             }
         }
 
@@ -148,21 +161,8 @@ public class AuthService {
                         return newUser;
                     });
 
-            Key signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
-            String jwt = Jwts.builder()
-                    .setSubject(user.getId())
-                    .setIssuedAt(new Date())
-                    .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                    .claim("email", user.getEmail())
-                    .claim("phone", user.getPhone())
-                    .signWith(signingKey, SignatureAlgorithm.HS256)
-                    .compact();
+            String jwt = jwtUtil.issueToken(user);
 
-            if (!isMockAccount) {
-                otpStore.remove(mapKey);
-            }
-            
             log.info("JWT issued successfully for user: {}", email);
             return jwt;
         } catch (Exception ex) {
@@ -174,6 +174,4 @@ public class AuthService {
     private String key(String email, String phone) {
         return email + "|" + phone;
     }
-
-    private record OtpEntry(String otp, Instant createdAt) {}
 }
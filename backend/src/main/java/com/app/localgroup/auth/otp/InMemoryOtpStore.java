@@ -0,0 +1,180 @@
+package com.app.localgroup.auth.otp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory OTP store with bounded memory.
+ *
+ * - Entries are indexed into time buckets (ttl / 10 wide) by creation time,
+ *   so the sweeper drops whole expired buckets without scanning live entries
+ * - A hard entry cap evicts from the oldest bucket first, so a request-otp
+ *   flood can only displace older codes, never grow the heap
+ * - Each entry counts wrong guesses and is burned after max-attempts
+ * - A matching code is consumed atomically (one-time use)
+ */
+@Component
+@ConditionalOnProperty(name = "app.otp.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpStore implements OtpStore {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryOtpStore.class);
+
+    private final long ttlMillis;
+    private final long bucketMillis;
+    private final int maxEntries;
+    private final int maxAttempts;
+
+    private final Map<String, OtpEntry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Queue<String>> buckets = new ConcurrentSkipListMap<>();
+
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder burned = new LongAdder();
+
+    public InMemoryOtpStore(
+            @Value("${app.otp.ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.otp.max-entries:100000}") int maxEntries,
+            @Value("${app.otp.max-attempts:5}") int maxAttempts
+    ) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.bucketMillis = Math.max(1000, ttlMillis / 10);
+        this.maxEntries = maxEntries;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void put(String key, String otp) {
+        long now = System.currentTimeMillis();
+        OtpEntry entry = new OtpEntry(otp, now);
+        OtpEntry previous = entries.put(key, entry);
+
+        // A key needs one queue node per bucket; re-requests within the same bucket reuse it
+        long bucket = bucketOf(now);
+        if (previous == null || bucketOf(previous.createdAt()) != bucket) {
+            buckets.computeIfAbsent(bucket, b -> new ConcurrentLinkedQueue<>()).add(key);
+        }
+
+        while (entries.size() > maxEntries && evictOldest()) {
+            // keep evicting until back under the cap
+        }
+    }
+
+    @Override
+    public OtpVerification verify(String key, String otp) {
+        OtpEntry entry = entries.get(key);
+        if (entry == null) {
+            return OtpVerification.NOT_FOUND;
+        }
+
+        if (System.currentTimeMillis() - entry.createdAt() >= ttlMillis) {
+            if (entries.remove(key, entry)) expired.increment();
+            return OtpVerification.EXPIRED;
+        }
+
+        if (entry.otp().equals(otp)) {
+            // remove(key, value) makes a code usable by exactly one concurrent verifier
+            return entries.remove(key, entry) ? OtpVerification.VALID : OtpVerification.NOT_FOUND;
+        }
+
+        if (entry.attempts().incrementAndGet() >= maxAttempts) {
+            if (entries.remove(key, entry)) burned.increment();
+            return OtpVerification.TOO_MANY_ATTEMPTS;
+        }
+        return OtpVerification.MISMATCH;
+    }
+
+    /**
+     * Drops every bucket whose entries are all past the TTL.
+     */
+    @Scheduled(fixedDelayString = "${app.otp.sweep-interval:PT30S}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        long expiredBefore = expired.sum();
+        long lastExpiredBucket = bucketOf(now - ttlMillis) - 1;
+
+        for (Map.Entry<Long, Queue<String>> bucket : buckets.headMap(lastExpiredBucket, true).entrySet()) {
+            String key;
+            while ((key = bucket.getValue().poll()) != null) {
+                OtpEntry entry = entries.get(key);
+                if (entry != null && bucketOf(entry.createdAt()) == bucket.getKey() && entries.remove(key, entry)) {
+                    expired.increment();
+                }
+            }
+            buckets.remove(bucket.getKey(), bucket.getValue());
+        }
+
+        long sweptNow = expired.sum() - expiredBefore;
+        if (sweptNow > 0) {
+            log.info("OTP store sweep: expired={} live={} buckets={} evictedTotal={}",
+                    sweptNow, size(), buckets.size(), evicted.sum());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Metrics
+    // -------------------------------------------------------------------------
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long expiredCount() {
+        return expired.sum();
+    }
+
+    public long evictedCount() {
+        return evicted.sum();
+    }
+
+    public long burnedCount() {
+        return burned.sum();
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    /**
+     * Evicts one queued key from the oldest bucket.
+     * @return false when there is nothing left to evict
+     */
+    private boolean evictOldest() {
+        Map.Entry<Long, Queue<String>> oldest = buckets.firstEntry();
+        if (oldest == null) return false;
+
+        String key = oldest.getValue().poll();
+        if (key == null) {
+            // Retire drained buckets, but never the one concurrent puts are still filling
+            return oldest.getKey() < bucketOf(System.currentTimeMillis())
+                    && buckets.remove(oldest.getKey(), oldest.getValue());
+        }
+
+        OtpEntry entry = entries.get(key);
+        if (entry != null && bucketOf(entry.createdAt()) == oldest.getKey() && entries.remove(key, entry)) {
+            evicted.increment();
+        }
+        return true;
+    }
+
+    private long bucketOf(long epochMillis) {
+        return epochMillis / bucketMillis;
+    }
+
+    private record OtpEntry(String otp, long createdAt, AtomicInteger attempts) {
+        OtpEntry(String otp, long createdAt) {
+            this(otp, createdAt, new AtomicInteger());
+        }
+    }
+}
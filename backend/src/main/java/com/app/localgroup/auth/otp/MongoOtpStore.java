@@ -0,0 +1,124 @@
+package com.app.localgroup.auth.otp;
+
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Mongo-backed OTP store shared by all nodes, so request-otp and verify-otp
+ * may land on different instances without sticky sessions.
+ *
+ * - One document per key in otp_codes (_id = key), replaced on re-request
+ * - A TTL index on createdAt lets Mongo delete expired codes; verify also
+ *   checks createdAt because the TTL monitor only runs about once a minute
+ * - A matching code is consumed with a single findAndRemove, so exactly one
+ *   concurrent verifier can succeed
+ * - Wrong guesses are counted with an atomic $inc and burn the code at max-attempts
+ */
+@Component
+@ConditionalOnProperty(name = "app.otp.store", havingValue = "mongo")
+public class MongoOtpStore implements OtpStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoOtpStore.class);
+
+    static final String COLLECTION = "otp_codes";
+    private static final String TTL_INDEX = "createdAt_ttl";
+
+    private final MongoTemplate mongoTemplate;
+    private final long ttlSeconds;
+    private final int maxAttempts;
+
+    public MongoOtpStore(
+            MongoTemplate mongoTemplate,
+            @Value("${app.otp.ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.otp.max-attempts:5}") int maxAttempts
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttlSeconds = ttlSeconds;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @PostConstruct
+    public void initIndices() {
+        Index ttlIndex = new Index().on("createdAt", Sort.Direction.ASC)
+                .named(TTL_INDEX)
+                .expire(Duration.ofSeconds(ttlSeconds));
+        try {
+            mongoTemplate.indexOps(COLLECTION).ensureIndex(ttlIndex);
+            log.info("TTL index ({}s) verified on {}.createdAt", ttlSeconds, COLLECTION);
+        } catch (Exception e) {
+            // The TTL changed since the index was created; recreate it with the new expiry
+            log.warn("Notice ensuring TTL index on {}.createdAt: {}", COLLECTION, e.getMessage());
+            mongoTemplate.indexOps(COLLECTION).dropIndex(TTL_INDEX);
+            mongoTemplate.indexOps(COLLECTION).ensureIndex(ttlIndex);
+            log.info("Re-created TTL index ({}s) on {}.createdAt", ttlSeconds, COLLECTION);
+        }
+    }
+
+    @Override
+    public void put(String key, String otp) {
+        mongoTemplate.upsert(
+                Query.query(where("_id").is(key)),
+                new Update().set("otp", otp).set("createdAt", new Date()).set("attempts", 0),
+                COLLECTION
+        );
+    }
+
+    @Override
+    public OtpVerification verify(String key, String otp) {
+        Date notBefore = new Date(System.currentTimeMillis() - ttlSeconds * 1000);
+
+        // Happy path: one round trip that both checks and consumes the code
+        Document consumed = mongoTemplate.findAndRemove(
+                Query.query(where("_id").is(key)
+                        .and("otp").is(otp)
+                        .and("createdAt").gt(notBefore)
+                        .and("attempts").lt(maxAttempts)),
+                Document.class,
+                COLLECTION
+        );
+        if (consumed != null) {
+            return OtpVerification.VALID;
+        }
+
+        // Wrong, expired or missing: count the attempt and classify
+        Document entry = mongoTemplate.findAndModify(
+                Query.query(where("_id").is(key)),
+                new Update().inc("attempts", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Document.class,
+                COLLECTION
+        );
+        if (entry == null) {
+            return OtpVerification.NOT_FOUND;
+        }
+
+        // Removes only this generation of the code, never one re-requested concurrently
+        Query sameEntry = Query.query(where("_id").is(key).and("createdAt").is(entry.getDate("createdAt")));
+
+        if (!entry.getDate("createdAt").after(notBefore)) {
+            mongoTemplate.remove(sameEntry, COLLECTION);
+            return OtpVerification.EXPIRED;
+        }
+        if (entry.getInteger("attempts", 0) >= maxAttempts) {
+            mongoTemplate.remove(sameEntry, COLLECTION);
+            return OtpVerification.TOO_MANY_ATTEMPTS;
+        }
+        return OtpVerification.MISMATCH;
+    }
+}
@@ -0,0 +1,22 @@
+package com.app.localgroup.auth.otp;
+
+/**
+ * Storage for pending one-time passwords, keyed by "email|phone".
+ *
+ * Implementations are selected with app.otp.store:
+ * - memory (default): {@link InMemoryOtpStore}, local to one node
+ * - mongo: {@link MongoOtpStore}, shared by every node behind the load balancer
+ */
+public interface OtpStore {
+
+    /**
+     * Stores (or replaces) the code for a key and resets its attempt counter.
+     */
+    void put(String key, String otp);
+
+    /**
+     * Checks a code. VALID consumes the entry so it can be used exactly once;
+     * wrong guesses count towards max-attempts.
+     */
+    OtpVerification verify(String key, String otp);
+}
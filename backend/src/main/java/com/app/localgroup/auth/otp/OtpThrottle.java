@@ -0,0 +1,114 @@
+package com.app.localgroup.auth.otp;
+
+import com.app.localgroup.auth.exception.TooManyRequestsException;
+import com.app.localgroup.common.ratelimit.SlidingWindowLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Abuse throttling for the OTP endpoints.
+ *
+ * - request-otp: sliding-window limits per email, per phone and per client IP
+ * - verify-otp: per-IP call limit, plus failure counters per email|phone and
+ *   per IP that lock the key once too many wrong codes are submitted
+ *
+ * All checks are in-memory counter reads, so they run before the OTP store,
+ * the user repository or JWT signing are touched.
+ */
+@Component
+public class OtpThrottle {
+
+    private static final Logger log = LoggerFactory.getLogger(OtpThrottle.class);
+
+    private final SlidingWindowLimiter requestsPerEmail;
+    private final SlidingWindowLimiter requestsPerPhone;
+    private final SlidingWindowLimiter requestsPerIp;
+    private final SlidingWindowLimiter verifiesPerIp;
+    private final SlidingWindowLimiter failuresPerAccount;
+    private final SlidingWindowLimiter failuresPerIp;
+
+    public OtpThrottle(
+            @Value("${app.auth.throttle.window:PT15M}") Duration window,
+            @Value("${app.auth.throttle.lockout:PT15M}") Duration lockout,
+            @Value("${app.auth.throttle.requests-per-account:5}") int requestsPerAccount,
+            @Value("${app.auth.throttle.requests-per-ip:30}") int requestsPerIpLimit,
+            @Value("${app.auth.throttle.verifies-per-ip:60}") int verifiesPerIpLimit,
+            @Value("${app.auth.throttle.failures-per-account:5}") int failuresPerAccountLimit,
+            @Value("${app.auth.throttle.failures-per-ip:20}") int failuresPerIpLimit,
+            @Value("${app.auth.throttle.max-keys:100000}") int maxKeys
+    ) {
+        long windowMillis = window.toMillis();
+        long lockMillis = lockout.toMillis();
+        this.requestsPerEmail = new SlidingWindowLimiter("otp-request-email", requestsPerAccount, windowMillis, 0, maxKeys);
+        this.requestsPerPhone = new SlidingWindowLimiter("otp-request-phone", requestsPerAccount, windowMillis, 0, maxKeys);
+        this.requestsPerIp = new SlidingWindowLimiter("otp-request-ip", requestsPerIpLimit, windowMillis, 0, maxKeys);
+        this.verifiesPerIp = new SlidingWindowLimiter("otp-verify-ip", verifiesPerIpLimit, windowMillis, 0, maxKeys);
+        this.failuresPerAccount = new SlidingWindowLimiter("otp-failure-account", failuresPerAccountLimit, windowMillis, lockMillis, maxKeys);
+        this.failuresPerIp = new SlidingWindowLimiter("otp-failure-ip", failuresPerIpLimit, windowMillis, lockMillis, maxKeys);
+    }
+
+    /**
+     * Counts an OTP request; rejects when any of email, phone or IP is over its window.
+     * The IP is checked first so a single source spraying addresses is cut off cheaply.
+     */
+    public void checkRequest(String email, String phone, String clientIp) {
+        acquire(requestsPerIp, clientIp);
+        acquire(requestsPerEmail, email);
+        acquire(requestsPerPhone, phone);
+    }
+
+    /**
+     * Rejects verification while the account or IP is locked out, and counts the call per IP.
+     */
+    public void checkVerify(String accountKey, String clientIp) {
+        rejectIfLimited(failuresPerIp, clientIp);
+        rejectIfLimited(failuresPerAccount, accountKey);
+        acquire(verifiesPerIp, clientIp);
+    }
+
+    public void recordFailure(String accountKey, String clientIp) {
+        failuresPerAccount.record(accountKey);
+        failuresPerIp.record(clientIp);
+    }
+
+    public void recordSuccess(String accountKey) {
+        failuresPerAccount.reset(accountKey);
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.throttle.prune-interval:PT1M}")
+    public void prune() {
+        for (SlidingWindowLimiter limiter : limiters()) {
+            limiter.prune();
+        }
+    }
+
+    public SlidingWindowLimiter[] limiters() {
+        return new SlidingWindowLimiter[] {
+                requestsPerEmail, requestsPerPhone, requestsPerIp,
+                verifiesPerIp, failuresPerAccount, failuresPerIp
+        };
+    }
+
+    private static void acquire(SlidingWindowLimiter limiter, String key) {
+        if (!limiter.tryAcquire(key)) {
+            reject(limiter, key);
+        }
+    }
+
+    private static void rejectIfLimited(SlidingWindowLimiter limiter, String key) {
+        if (limiter.isLimited(key)) {
+            reject(limiter, key);
+        }
+    }
+
+    private static void reject(SlidingWindowLimiter limiter, String key) {
+        long retryAfter = limiter.retryAfterSeconds(key);
+        log.debug("Throttled by {} (retry after {}s)", limiter.name(), retryAfter);
+        throw new TooManyRequestsException("Too many attempts. Please try again later", retryAfter);
+    }
+}
@@ -0,0 +1,12 @@
+package com.app.localgroup.auth.otp;
+
+/**
+ * Outcome of checking a submitted OTP against the store.
+ */
+public enum OtpVerification {
+    VALID,
+    MISMATCH,
+    EXPIRED,
+    NOT_FOUND,
+    TOO_MANY_ATTEMPTS
+}
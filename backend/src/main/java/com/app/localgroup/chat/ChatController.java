@@ -40,6 +40,8 @@ public class ChatController {
             SimpMessageHeaderAccessor headers
     ) {
         String userId = (String) headers.getSessionAttributes().get("userId");
+        // Set at CONNECT from the token's profile-complete claim
+        boolean profileComplete = Boolean.TRUE.equals(headers.getSessionAttributes().get("profileComplete"));
 
         if (userId == null) {
             log.warn("Chat rejected: userId not found in session");
@@ -47,7 +49,7 @@ public class ChatController {
         }
 
         try {
-            chatService.sendMessage(groupId, userId, message.getContent());
+            chatService.sendMessage(groupId, userId, profileComplete, message.getContent());
         } catch (ChatService.ChatException ex) {
             log.error("Chat error for user {} in group {}: {} [{}]",
                     userId, groupId, ex.getMessage(), ex.getErrorCode());
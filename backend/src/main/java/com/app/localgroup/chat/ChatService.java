@@ -1,15 +1,18 @@
 package com.app.localgroup.chat;
 
+import com.app.localgroup.chat.codec.CompactChatCodec;
 import com.app.localgroup.chat.dto.ChatMessageDTO;
+import com.app.localgroup.common.Constants;
 import com.app.localgroup.group.model.Group;
 import com.app.localgroup.group.repository.GroupMemberRepository;
 import com.app.localgroup.group.repository.GroupRepository;
-import com.app.localgroup.user.UserService;
-import com.app.localgroup.user.model.User;
-import com.app.localgroup.user.repository.UserRepository;
+import com.app.localgroup.user.block.BlockListCache;
+import com.app.localgroup.user.cache.UserSnapshot;
+import com.app.localgroup.user.cache.UserSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -28,8 +31,13 @@ public class ChatService {
 
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
-    private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
+    private final BlockListCache blockListCache;
     private final SimpMessagingTemplate messagingTemplate;
+    private final CompactSubscriptions compactSubscriptions;
+
+    @Value("${app.chat.compact-frames-enabled:true}")
+    private boolean compactFramesEnabled;
 
     /**
      * Validates and broadcasts a chat message to a group.
@@ -41,22 +49,19 @@ public class ChatService {
      * @throws IllegalStateException    if group not ACTIVE or user not allowed
      */
     public void sendMessage(String groupId, String senderId, String content) {
-        // Validate user exists and profile is complete
-        User sender = userRepository.findById(senderId)
-                .orElseThrow(() -> new ChatException(
-                        "Sender not found",
-                        ChatException.ErrorCode.SENDER_NOT_FOUND,
-                        500
-                ));
+        sendMessage(groupId, senderId, false, content);
+    }
 
-        if (!UserService.isProfileComplete(sender)) {
-            log.warn("Chat rejected for user {}: profile incomplete", senderId);
-            throw new ChatException(
-                    "Profile must be completed before sending chat messages",
-                    ChatException.ErrorCode.PROFILE_INCOMPLETE,
-                    403
-            );
-        }
+    /**
+     * Same as {@link #sendMessage(String, String, String)}, trusting the
+     * profile-complete claim of the sender's verified token. The username is
+     * always taken from the current (cached) snapshot, never from the token,
+     * since usernames can change after the token was issued.
+     *
+     * @param profileComplete true when the token says the profile is complete; skips that check
+     */
+    public void sendMessage(String groupId, String senderId, boolean profileComplete, String content) {
+        String senderUsername = (profileComplete ? sender(senderId) : requireCompleteSender(senderId)).username();
 
         // Validate group exists
         Group group = groupRepository.findById(groupId)
@@ -90,15 +95,8 @@ public class ChatService {
             );
         }
 
-        // Validate user is not blocked by group creator
-        User creator = userRepository.findById(group.getCreatorId())
-                .orElseThrow(() -> new ChatException(
-                        "Group creator not found",
-                        ChatException.ErrorCode.CREATOR_NOT_FOUND,
-                        500
-                ));
-
-        if (creator.getBlockedUsers().contains(senderId)) {
+        // Validate user is not blocked by group creator (cached hash set, no creator load)
+        if (blockListCache.isBlocked(group.getCreatorId(), senderId)) {
             log.warn("Chat rejected for user {} in group {}: blocked by creator", senderId, groupId);
             throw new ChatException(
                     "You are blocked by the group creator and cannot send messages",
@@ -111,7 +109,7 @@ public class ChatService {
         ChatMessageDTO message = ChatMessageDTO.builder()
                 .groupId(groupId)
                 .senderId(senderId)
-                .senderUsername(sender.getUsername())
+                .senderUsername(senderUsername)
                 .content(content)
                 .timestamp(Instant.now())
                 .build();
@@ -119,9 +117,42 @@ public class ChatService {
         String destination = "/topic/group/" + groupId;
         messagingTemplate.convertAndSend(destination, message);
 
+        // Compact fanout for sessions that negotiated chat-encoding: compact.
+        // Encoded once per message regardless of how many subscribers receive it,
+        // and not at all while nobody on this node is subscribed to it.
+        String compactDestination = destination + Constants.CHAT_COMPACT_DESTINATION_SUFFIX;
+        if (compactFramesEnabled && compactSubscriptions.isWatched(compactDestination)) {
+            messagingTemplate.convertAndSend(compactDestination, CompactChatCodec.encode(message));
+        }
+
         log.info("Chat message sent to group {} by user {}", groupId, senderId);
     }
 
+    private UserSnapshot sender(String senderId) {
+        // Cached snapshot; completeProfile writes renames through, so the name is current
+        return userSnapshotCache.get(senderId)
+                .orElseThrow(() -> new ChatException(
+                        "Sender not found",
+                        ChatException.ErrorCode.SENDER_NOT_FOUND,
+                        500
+                ));
+    }
+
+    private UserSnapshot requireCompleteSender(String senderId) {
+        // Validate user exists and profile is complete (cached snapshot)
+        UserSnapshot sender = sender(senderId);
+
+        if (!sender.profileComplete()) {
+            log.warn("Chat rejected for user {}: profile incomplete", senderId);
+            throw new ChatException(
+                    "Profile must be completed before sending chat messages",
+                    ChatException.ErrorCode.PROFILE_INCOMPLETE,
+                    403
+            );
+        }
+        return sender;
+    }
+
     /**
      * Custom exception for chat operations.
      */
@@ -148,7 +179,6 @@ public class ChatService {
             GROUP_NOT_ACTIVE,
             NOT_A_MEMBER,
             USER_BLOCKED,
-            CREATOR_NOT_FOUND,
             SENDER_NOT_FOUND,
             PROFILE_INCOMPLETE
         }
@@ -0,0 +1,73 @@
+package com.app.localgroup.chat;
+
+import com.app.localgroup.common.Constants;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Subscriber counts of the compact chat destinations on this node, so
+ * ChatService can tell in O(1) whether a compact frame has anyone to go to.
+ *
+ * Kept from the session events rather than by scanning SimpUserRegistry per
+ * message. UNSUBSCRIBE frames carry no destination, so each session's
+ * subscription ids are remembered until it unsubscribes or disconnects.
+ */
+@Component
+public class CompactSubscriptions {
+
+    /** destination -> subscriptions on this node; entries are removed at zero. */
+    private final ConcurrentHashMap<String, Integer> counts = new ConcurrentHashMap<>();
+    /** sessionId -> (subscriptionId -> destination), compact subscriptions only. */
+    private final ConcurrentHashMap<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+
+    public boolean isWatched(String destination) {
+        return counts.containsKey(destination);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = headers.getDestination();
+        String sessionId = headers.getSessionId();
+        String subscriptionId = headers.getSubscriptionId();
+        if (destination == null || sessionId == null || subscriptionId == null
+                || !destination.endsWith(Constants.CHAT_COMPACT_DESTINATION_SUFFIX)) {
+            return;
+        }
+
+        String previous = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        if (previous != null) release(previous);
+        counts.merge(destination, 1, Integer::sum);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = headers.getSessionId();
+        String subscriptionId = headers.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) return;
+
+        Map<String, String> subscriptions = sessions.get(sessionId);
+        String destination = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (destination != null) release(destination);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions == null) return;
+        subscriptions.values().forEach(this::release);
+    }
+
+    private void release(String destination) {
+        counts.computeIfPresent(destination, (d, n) -> n > 1 ? n - 1 : null);
+    }
+}
@@ -1,6 +1,10 @@
 package com.app.localgroup.chat;
 
+import com.app.localgroup.chat.config.ChatEncodingInterceptor;
 import com.app.localgroup.chat.config.JwtHandshakeInterceptor;
+import com.app.localgroup.config.threads.VirtualThreadMode;
+import com.app.localgroup.metrics.StompMetricsInterceptor;
+import com.app.localgroup.metrics.query.QueryLogChannelInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -14,8 +18,11 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * WebSocket configuration for group chat.
  * - Endpoint: /ws
  * - App prefix: /app
- * - Topic prefix: /topic
+ * - Topic prefix: /topic, user queues under /user/queue
  * - JWT validation on handshake
+ * - Optional compact chat frames (see ChatEncodingInterceptor)
+ * - Inbound handler timing per destination (see StompMetricsInterceptor)
+ * - Inbound/outbound channels on virtual threads in virtual-thread mode
  * - CORS enabled for development
  */
 @Configuration
@@ -27,11 +34,35 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private String wsEndpoint;
 
     private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final ChatEncodingInterceptor chatEncodingInterceptor;
+    private final StompMetricsInterceptor stompMetricsInterceptor;
+    private final QueryLogChannelInterceptor queryLogChannelInterceptor;
+    private final VirtualThreadMode virtualThreadMode;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        config.enableSimpleBroker("/topic", "/queue");
         config.setApplicationDestinationPrefixes("/app");
+        // Per-user pushes, e.g. /user/queue/groups (see GroupStatePublisher)
+        config.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // JWT check must run first so encoding negotiation only sees authenticated sessions
+        // Metrics and query logs only wrap handler execution (beforeHandle / afterMessageHandled)
+        registration.interceptors(jwtHandshakeInterceptor, chatEncodingInterceptor,
+                stompMetricsInterceptor, queryLogChannelInterceptor);
+        if (virtualThreadMode.isActive()) {
+            registration.executor(virtualThreadMode.executor("stomp-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreadMode.isActive()) {
+            registration.executor(virtualThreadMode.executor("stomp-outbound-"));
+        }
     }
 
     @Override
@@ -0,0 +1,70 @@
+package com.app.localgroup.chat.codec;
+
+import com.app.localgroup.chat.dto.ChatMessageDTO;
+
+/**
+ * Compact wire format for chat frames.
+ *
+ * Layout (positional JSON array, version first):
+ *   [1, senderId, senderUsername, content, epochMillis]
+ *
+ * - groupId is omitted: it is implied by the subscription destination
+ * - timestamp is sent as epoch milliseconds instead of an ISO-8601 string
+ * - no field names are repeated on every frame
+ *
+ * The format stays text (not CBOR or raw binary) because the /ws endpoint is
+ * served through SockJS, whose fallback transports can only carry text frames.
+ * Encoding is a single pass over a StringBuilder with no reflection, so it is
+ * also cheaper to produce than the bean-serialized JSON frame.
+ */
+public final class CompactChatCodec {
+
+    /** Bumped whenever the positional layout changes. */
+    public static final int VERSION = 1;
+
+    private CompactChatCodec() {}
+
+    public static String encode(ChatMessageDTO message) {
+        String content = message.getContent();
+        StringBuilder sb = new StringBuilder(64 + (content != null ? content.length() : 0));
+        sb.append('[').append(VERSION).append(',');
+        appendString(sb, message.getSenderId());
+        sb.append(',');
+        appendString(sb, message.getSenderUsername());
+        sb.append(',');
+        appendString(sb, content);
+        sb.append(',');
+        if (message.getTimestamp() != null) {
+            sb.append(message.getTimestamp().toEpochMilli());
+        } else {
+            sb.append("null");
+        }
+        return sb.append(']').toString();
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"'  -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,80 @@
+package com.app.localgroup.chat.config;
+
+import com.app.localgroup.common.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Negotiates the chat frame encoding.
+ *
+ * Clients opt in to the compact encoding by sending the header
+ * {@code chat-encoding: compact} either on CONNECT (applies to every chat
+ * subscription of the session) or on an individual SUBSCRIBE frame.
+ * Matching subscriptions to /topic/group/{groupId} are rewritten to
+ * /topic/group/{groupId}/compact, which ChatService publishes alongside the
+ * default JSON destination. Clients that send nothing keep receiving JSON.
+ *
+ * The rewrite is made on the frame's own (still mutable) headers where
+ * possible, so the SessionSubscribeEvent published for the frame, and with it
+ * CompactSubscriptions, records the compact destination ChatService checks for.
+ */
+@Component
+public class ChatEncodingInterceptor implements ChannelInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatEncodingInterceptor.class);
+
+    private static final String SESSION_ATTR = "chatEncoding";
+    private static final Pattern CHAT_TOPIC = Pattern.compile("^/topic/group/[^/]+$");
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor current = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        StompCommand command = current != null ? current.getCommand() : StompHeaderAccessor.wrap(message).getCommand();
+
+        if (StompCommand.CONNECT.equals(command)) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            Map<String, Object> attrs = accessor.getSessionAttributes();
+            if (attrs != null && isCompact(accessor.getFirstNativeHeader(Constants.CHAT_ENCODING_HEADER))) {
+                attrs.put(SESSION_ATTR, Constants.CHAT_ENCODING_COMPACT);
+            }
+            return message;
+        }
+
+        if (!StompCommand.SUBSCRIBE.equals(command)) {
+            return message;
+        }
+
+        boolean inPlace = current != null && current.isMutable();
+        StompHeaderAccessor accessor = inPlace ? current : StompHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (destination == null || !CHAT_TOPIC.matcher(destination).matches()) {
+            return message;
+        }
+
+        Map<String, Object> attrs = accessor.getSessionAttributes();
+        boolean compact = isCompact(accessor.getFirstNativeHeader(Constants.CHAT_ENCODING_HEADER))
+                || (attrs != null && Constants.CHAT_ENCODING_COMPACT.equals(attrs.get(SESSION_ATTR)));
+        if (!compact) {
+            return message;
+        }
+
+        accessor.setDestination(destination + Constants.CHAT_COMPACT_DESTINATION_SUFFIX);
+        log.debug("Subscription {} switched to compact chat frames", accessor.getSubscriptionId());
+        return inPlace ? message : MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    private static boolean isCompact(String value) {
+        return value != null && Constants.CHAT_ENCODING_COMPACT.equalsIgnoreCase(value.trim());
+    }
+}
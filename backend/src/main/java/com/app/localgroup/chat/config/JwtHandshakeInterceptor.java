@@ -3,6 +3,7 @@ package com.app.localgroup.chat.config;
 import com.app.localgroup.common.Constants;
 import io.jsonwebtoken.Claims;
 import com.app.localgroup.config.jwt.JwtUtil;
+import com.app.localgroup.config.jwt.TokenIdentity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,14 +12,18 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.security.Key;
+import java.util.Collections;
 
 /**
  * Validates JWT tokens during WebSocket handshake.
- * Extracts userId from token and stores in session attributes.
+ * Extracts userId from token and stores in session attributes, and sets it
+ * as the session user for user destinations.
  */
 @Component
 public class JwtHandshakeInterceptor implements ChannelInterceptor {
@@ -56,11 +61,22 @@ public class JwtHandshakeInterceptor implements ChannelInterceptor {
                     throw new IllegalArgumentException("Token has no subject");
                 }
 
+                // Session principal, so /user/queue/** destinations resolve to this user
+                StompHeaderAccessor mutable = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (mutable != null) {
+                    mutable.setUser(new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList()));
+                }
+
                 // Store userId in session attributes
                 accessor.getSessionAttributes().put("userId", userId);
                 accessor.getSessionAttributes().put("email", claims.get("email"));
                 accessor.getSessionAttributes().put("phone", claims.get("phone"));
 
+                // Lets ChatService skip the profile-complete check. Only the flag is kept:
+                // the username claim goes stale on rename, so senders are named from UserSnapshotCache
+                TokenIdentity identity = TokenIdentity.fromClaims(claims);
+                accessor.getSessionAttributes().put("profileComplete", identity.profileComplete());
+
                 log.debug("WebSocket connection accepted for user: {}", userId);
 
             } catch (Exception ex) {
@@ -19,5 +19,10 @@ public final class Constants {
     public static final String CHAT_ERROR_NOT_MEMBER = "You are not a member of this group";
     public static final String CHAT_ERROR_USER_BLOCKED = "You are blocked by the group creator";
     public static final String CHAT_ERROR_INVALID_MESSAGE = "Message content cannot be blank";
+
+    // Chat frame encoding (negotiated per STOMP session or subscription)
+    public static final String CHAT_ENCODING_HEADER = "chat-encoding";
+    public static final String CHAT_ENCODING_COMPACT = "compact";
+    public static final String CHAT_COMPACT_DESTINATION_SUFFIX = "/compact";
 }
 
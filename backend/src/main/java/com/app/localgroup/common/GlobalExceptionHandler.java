@@ -2,6 +2,7 @@ package com.app.localgroup.common;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.HttpStatus;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+import com.app.localgroup.auth.exception.TooManyRequestsException;
 import com.app.localgroup.auth.exception.UnauthorizedException;
 
 import java.util.HashMap;
@@ -49,6 +51,18 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(resp);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<String>> handleTooManyRequests(TooManyRequestsException ex) {
+        // No logging here: throttled traffic is expected to be hostile and high-volume
+        ApiResponse<String> resp = ApiResponse.<String>builder()
+                .success(false)
+                .message(ex.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(resp);
+    }
+
     @ExceptionHandler({ IllegalStateException.class, IllegalArgumentException.class })
     public ResponseEntity<ApiResponse<String>> handleBadRequest(RuntimeException ex) {
         log.warn("Bad request: {}", ex.getMessage());
@@ -59,6 +73,17 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(resp);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<String>> handleConflict(OptimisticLockingFailureException ex) {
+        // Only reached once OptimisticRetry has given up; the client may simply retry
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        ApiResponse<String> resp = ApiResponse.<String>builder()
+                .success(false)
+                .message("The group was changed by someone else, please try again")
+                .build();
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(resp);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<String>> handleAll(Exception ex) {
         log.error("Unexpected error: ", ex);
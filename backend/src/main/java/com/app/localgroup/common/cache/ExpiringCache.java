@@ -0,0 +1,132 @@
+package com.app.localgroup.common.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Small bounded, expiring, thread-safe cache.
+ *
+ * - Every entry carries an absolute expiry; expired entries are never returned
+ * - When the entry cap is reached, expired entries are purged first, then
+ *   roughly a tenth of the remaining entries are dropped (arbitrary order)
+ * - Hit / miss / eviction counters are kept for metrics
+ *
+ * A cap of 0 disables the cache: puts are ignored and every get is a miss.
+ */
+public class ExpiringCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long defaultTtlMillis;
+    private final ConcurrentHashMap<K, Entry<V>> entries;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name             label used in logs and metrics
+     * @param maxEntries       hard cap on live entries (0 disables the cache)
+     * @param defaultTtlMillis TTL applied by {@link #put(Object, Object)}
+     */
+    public ExpiringCache(String name, int maxEntries, long defaultTtlMillis) {
+        this.name = name;
+        this.maxEntries = Math.max(0, maxEntries);
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.entries = new ConcurrentHashMap<>(Math.min(this.maxEntries, 1024));
+    }
+
+    public V get(K key) {
+        Entry<V> e = entries.get(key);
+        if (e == null) {
+            misses.increment();
+            return null;
+        }
+        if (e.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, e);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return e.value();
+    }
+
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + defaultTtlMillis);
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        if (maxEntries == 0 || value == null) return;
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    private void evict() {
+        // One evicting thread at a time; others just insert (the cap is soft by a few entries)
+        if (!evicting.compareAndSet(false, true)) return;
+        try {
+            long now = System.currentTimeMillis();
+            entries.entrySet().removeIf(e -> {
+                boolean expired = e.getValue().expiresAt() <= now;
+                if (expired) evictions.increment();
+                return expired;
+            });
+
+            int target = maxEntries - Math.max(1, maxEntries / 10);
+            Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+            while (entries.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+                evictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+}
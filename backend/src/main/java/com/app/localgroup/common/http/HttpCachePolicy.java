@@ -0,0 +1,65 @@
+package com.app.localgroup.common.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Cache-Control for the public read endpoints, configured per endpoint
+ * (app.http-cache.*). Responses are public, so browsers and CDNs may serve
+ * them for max-age and then revalidate with the ETag from ReadModelVersions.
+ *
+ * Usage in a controller:
+ * <pre>
+ * if (request.checkNotModified(versions.placesETag())) return HttpCachePolicy.notModified(cachePolicy.places());
+ * </pre>
+ * checkNotModified also sets the ETag header on the full response.
+ */
+@Component
+public class HttpCachePolicy {
+
+    private final CacheControl places;
+    private final CacheControl nearby;
+    private final CacheControl groupsByPlace;
+
+    public HttpCachePolicy(
+            @Value("${app.http-cache.places-max-age:PT30S}") Duration placesMaxAge,
+            @Value("${app.http-cache.nearby-max-age:PT15S}") Duration nearbyMaxAge,
+            @Value("${app.http-cache.groups-by-place-max-age:PT5S}") Duration groupsByPlaceMaxAge
+    ) {
+        this.places = of(placesMaxAge);
+        this.nearby = of(nearbyMaxAge);
+        this.groupsByPlace = of(groupsByPlaceMaxAge);
+    }
+
+    /** /places and /places/{id}. */
+    public CacheControl places() {
+        return places;
+    }
+
+    /** /places/nearby. */
+    public CacheControl nearby() {
+        return nearby;
+    }
+
+    /** /groups/place/{placeId}. */
+    public CacheControl groupsByPlace() {
+        return groupsByPlace;
+    }
+
+    /**
+     * 304 for a matching If-None-Match; repeats Cache-Control as RFC 9110 asks.
+     */
+    public static <T> ResponseEntity<T> notModified(CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+    }
+
+    /** A zero max-age still lets clients keep the body and revalidate with the ETag. */
+    private static CacheControl of(Duration maxAge) {
+        return maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge).cachePublic();
+    }
+}
@@ -0,0 +1,67 @@
+package com.app.localgroup.common.http;
+
+import com.app.localgroup.group.event.GroupChangedEvent;
+import com.app.localgroup.place.event.PlaceChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Change counters for the public read endpoints, turned into ETags.
+ *
+ * - places: bumped when a place changes or a group's creation / status
+ *   change may alter a place's active group count
+ * - groups at a place: bumped on any change to a group at that place,
+ *   membership and confirmations included
+ *
+ * Counters live in memory, so an ETag also carries:
+ * - this node's start time, so ETags never match across restarts or nodes
+ * - a time bucket (app.http-cache.cross-node-staleness), so a write made on
+ *   another node stops yielding 304s here after at most that long
+ */
+@Component
+public class ReadModelVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final long bucketMillis;
+
+    private final AtomicLong places = new AtomicLong();
+    private final ConcurrentHashMap<String, AtomicLong> groupsByPlace = new ConcurrentHashMap<>();
+
+    public ReadModelVersions(@Value("${app.http-cache.cross-node-staleness:PT30S}") Duration crossNodeStaleness) {
+        this.bucketMillis = crossNodeStaleness.toMillis();
+    }
+
+    @EventListener
+    public void onGroupChanged(GroupChangedEvent event) {
+        if (event.placeId() != null) {
+            groupsByPlace.computeIfAbsent(event.placeId(), p -> new AtomicLong()).incrementAndGet();
+        }
+        if (event.affectsPlaceGroupCount()) places.incrementAndGet();
+    }
+
+    @EventListener
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        places.incrementAndGet();
+    }
+
+    /** For /places, /places/nearby and /places/{id}. */
+    public String placesETag() {
+        return etag("p", places.get());
+    }
+
+    /** For /groups/place/{placeId}. */
+    public String groupsAtPlaceETag(String placeId) {
+        AtomicLong version = groupsByPlace.get(placeId);
+        return etag("g", version == null ? 0 : version.get());
+    }
+
+    private String etag(String kind, long version) {
+        long bucket = bucketMillis > 0 ? System.currentTimeMillis() / bucketMillis : 0;
+        return "\"" + kind + "-" + epoch + "-" + version + "-" + bucket + "\"";
+    }
+}
@@ -0,0 +1,210 @@
+package com.app.localgroup.common.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-key sliding-window counter with optional lockout.
+ *
+ * Each key keeps two fixed-window counts (previous and current) and the
+ * sliding estimate is {@code previous * (1 - elapsed/window) + current},
+ * the usual approximation that needs O(1) memory per key instead of a log
+ * of timestamps. When {@code lockMillis > 0}, reaching the limit also locks
+ * the key for that long, regardless of how the window slides afterwards.
+ *
+ * The key table is capped. Idle keys are dropped by {@link #prune()}, which
+ * owners call from a scheduled sweep; the request path itself prunes at most
+ * once per {@value #FULL_TABLE_PRUNE_INTERVAL_MILLIS} ms, by one thread, so a
+ * flood of distinct keys never costs a full table scan per request. While
+ * the table is full, new keys share a single overflow window with the same
+ * limit: during a flood they are throttled together (fail closed) instead
+ * of being admitted untracked, and keys tracked before the flood keep their
+ * own windows.
+ */
+public class SlidingWindowLimiter {
+
+    private static final long FULL_TABLE_PRUNE_INTERVAL_MILLIS = 1_000;
+
+    private final String name;
+    private final int limit;
+    private final long windowMillis;
+    private final long lockMillis;
+    private final int maxKeys;
+
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final Window overflow = new Window();
+    private final AtomicLong lastFullTablePrune = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder locks = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    /**
+     * @param name         label used in logs and metrics
+     * @param limit        events allowed per sliding window
+     * @param windowMillis window length
+     * @param lockMillis   lockout once the limit is reached (0 = no lockout)
+     * @param maxKeys      cap on tracked keys
+     */
+    public SlidingWindowLimiter(String name, int limit, long windowMillis, long lockMillis, int maxKeys) {
+        this.name = name;
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+        this.lockMillis = lockMillis;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Records an event for the key if it is under its limit.
+     * @return true if allowed, false if the key is limited (nothing recorded)
+     */
+    public boolean tryAcquire(String key) {
+        if (key == null) return true;
+        Window w = window(key);
+        boolean allowed = w.tryAcquire(System.currentTimeMillis());
+        if (!allowed) rejected.increment();
+        return allowed;
+    }
+
+    /**
+     * Records an event unconditionally (e.g. a failed attempt).
+     */
+    public void record(String key) {
+        if (key == null) return;
+        window(key).record(System.currentTimeMillis());
+    }
+
+    /**
+     * @return true if the key is locked or at its limit; records nothing
+     */
+    public boolean isLimited(String key) {
+        if (key == null) return false;
+        Window w = existing(key);
+        boolean limited = w != null && w.isLimited(System.currentTimeMillis());
+        if (limited) rejected.increment();
+        return limited;
+    }
+
+    /**
+     * Seconds until the key may try again (at least 1 when limited).
+     */
+    public long retryAfterSeconds(String key) {
+        Window w = key != null ? existing(key) : null;
+        return w == null ? 0 : Math.max(1, w.retryAfterMillis(System.currentTimeMillis()) / 1000);
+    }
+
+    public void reset(String key) {
+        if (key != null) windows.remove(key);
+    }
+
+    /**
+     * Drops keys that have been idle for two windows and are not locked.
+     */
+    public void prune() {
+        long now = System.currentTimeMillis();
+        windows.values().removeIf(w -> w.isIdle(now));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int trackedKeys() {
+        return windows.size();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    public long lockCount() {
+        return locks.sum();
+    }
+
+    /** Events for new keys that were counted in the shared overflow window. */
+    public long overflowCount() {
+        return overflowed.sum();
+    }
+
+    private Window window(String key) {
+        Window w = windows.get(key);
+        if (w != null) return w;
+        if (windows.size() >= maxKeys) {
+            pruneFullTable();
+            if (windows.size() >= maxKeys) {
+                overflowed.increment();
+                return overflow;
+            }
+        }
+        return windows.computeIfAbsent(key, k -> new Window());
+    }
+
+    /**
+     * The key's own window; for an untracked key while the table is full,
+     * the overflow window it would be counted in. Null if neither applies.
+     */
+    private Window existing(String key) {
+        Window w = windows.get(key);
+        if (w == null && windows.size() >= maxKeys) return overflow;
+        return w;
+    }
+
+    private void pruneFullTable() {
+        long now = System.currentTimeMillis();
+        long last = lastFullTablePrune.get();
+        if (now - last >= FULL_TABLE_PRUNE_INTERVAL_MILLIS && lastFullTablePrune.compareAndSet(last, now)) {
+            prune();
+        }
+    }
+
+    private final class Window {
+        private long currentStart;
+        private int current;
+        private int previous;
+        private long lockedUntil;
+
+        synchronized boolean tryAcquire(long now) {
+            if (isLimited(now)) return false;
+            record(now);
+            return true;
+        }
+
+        synchronized void record(long now) {
+            roll(now);
+            current++;
+            if (lockMillis > 0 && estimate(now) >= limit && lockedUntil <= now) {
+                lockedUntil = now + lockMillis;
+                locks.increment();
+            }
+        }
+
+        synchronized boolean isLimited(long now) {
+            if (lockedUntil > now) return true;
+            roll(now);
+            return estimate(now) >= limit;
+        }
+
+        synchronized long retryAfterMillis(long now) {
+            if (lockedUntil > now) return lockedUntil - now;
+            roll(now);
+            return estimate(now) >= limit ? currentStart + windowMillis - now : 0;
+        }
+
+        synchronized boolean isIdle(long now) {
+            return lockedUntil <= now && now - currentStart >= 2 * windowMillis;
+        }
+
+        private void roll(long now) {
+            long elapsed = now - currentStart;
+            if (elapsed < windowMillis) return;
+            previous = elapsed < 2 * windowMillis ? current : 0;
+            current = 0;
+            currentStart = now - (elapsed % windowMillis);
+        }
+
+        private double estimate(long now) {
+            double weight = 1.0 - (double) (now - currentStart) / windowMillis;
+            return previous * Math.max(0.0, weight) + current;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.app.localgroup.common.retry;
+
+import com.app.localgroup.metrics.Histogram;
+import com.app.localgroup.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a load-modify-save on a @Version conflict.
+ *
+ * - The action must reload what it modifies on every attempt; a retry with
+ *   the entity that lost the race would just conflict again
+ * - Up to app.optimistic-retry.max-attempts attempts, with full-jitter
+ *   backoff (random 0..base*2^n ms) so writers that collided do not collide
+ *   again in lockstep
+ * - When attempts run out the last OptimisticLockingFailureException is
+ *   rethrown (409 Conflict at the API)
+ *
+ * Metrics, per operation name, under "optimistic-locking": an attempts
+ * histogram (its count is the number of operations, anything above 1 is a
+ * conflict) and conflicts / exhausted counters.
+ */
+@Component
+public class OptimisticRetry {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticRetry.class);
+    private static final String SECTION = "optimistic-locking";
+
+    private final MetricsRegistry metrics;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final ConcurrentHashMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public OptimisticRetry(
+            MetricsRegistry metrics,
+            @Value("${app.optimistic-retry.max-attempts:4}") int maxAttempts,
+            @Value("${app.optimistic-retry.backoff-ms:5}") long backoffMillis
+    ) {
+        this.metrics = metrics;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(0, backoffMillis);
+    }
+
+    public <T> T run(String operation, Supplier<T> action) {
+        return run(operation, attempt -> action.get());
+    }
+
+    /**
+     * @param action receives the attempt number, starting at 1, so the first
+     *               attempt can reuse an entity the caller already loaded
+     */
+    public <T> T run(String operation, IntFunction<T> action) {
+        Counters c = counters.computeIfAbsent(operation, this::register);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = action.apply(attempt);
+                c.attempts().record(attempt);
+                return result;
+            } catch (OptimisticLockingFailureException ex) {
+                c.conflicts().incrementAndGet();
+                if (attempt >= maxAttempts) {
+                    c.attempts().record(attempt);
+                    c.exhausted().incrementAndGet();
+                    log.warn("{}: still conflicting after {} attempts", operation, attempt);
+                    throw ex;
+                }
+                log.debug("{}: version conflict on attempt {}, retrying", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private Counters register(String operation) {
+        return new Counters(
+                metrics.histogram(SECTION, operation + ".attempts"),
+                metrics.gauge(SECTION, operation + ".conflicts"),
+                metrics.gauge(SECTION, operation + ".exhausted"));
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = backoffMillis << Math.min(attempt - 1, 10);
+        if (ceiling <= 0) return;
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying after a version conflict", e);
+        }
+    }
+
+    private record Counters(Histogram attempts, AtomicLong conflicts, AtomicLong exhausted) {}
+}
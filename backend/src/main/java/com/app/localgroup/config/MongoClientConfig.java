@@ -0,0 +1,22 @@
+package com.app.localgroup.config;
+
+import com.app.localgroup.metrics.query.QueryLogCommandListener;
+import com.mongodb.MongoClientSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Base Mongo client settings. Boot still applies the connection URI and its
+ * own customizers on top of this bean; it only adds the command listener
+ * that feeds per-request query logs.
+ */
+@Configuration
+public class MongoClientConfig {
+
+    @Bean
+    public MongoClientSettings mongoClientSettings(QueryLogCommandListener queryLogCommandListener) {
+        return MongoClientSettings.builder()
+                .addCommandListener(queryLogCommandListener)
+                .build();
+    }
+}
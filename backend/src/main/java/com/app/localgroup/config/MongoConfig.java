@@ -1,5 +1,8 @@
 package com.app.localgroup.config;
 
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.model.GroupSummary;
 import com.app.localgroup.place.model.Place;
 import com.app.localgroup.user.model.User;
 import jakarta.annotation.PostConstruct;
@@ -11,6 +14,9 @@ import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
 import org.springframework.data.mongodb.core.index.GeospatialIndex;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 @Configuration
 @RequiredArgsConstructor
@@ -53,5 +59,75 @@ public class MongoConfig {
                 log.error("Failed to resolve index conflict on User.username: {}", ex.getMessage());
             }
         }
+
+        // 3. Membership lookups: by user (profile placesVisited, my groups) and by group (member lists)
+        try {
+            IndexOperations memberIndexOps = mongoTemplate.indexOps(GroupMember.class);
+            memberIndexOps.ensureIndex(new Index()
+                    .on("userId", org.springframework.data.domain.Sort.Direction.ASC)
+                    .on("confirmed", org.springframework.data.domain.Sort.Direction.ASC));
+            memberIndexOps.ensureIndex(new Index().on("groupId", org.springframework.data.domain.Sort.Direction.ASC));
+            log.info("Indexes verified on GroupMember.userId+confirmed and GroupMember.groupId");
+        } catch (Exception e) {
+            log.error("Could not ensure indexes on GroupMember: {}", e.getMessage());
+        }
+
+        // 4. Trust-score ordering for the leaderboard rebuild
+        try {
+            mongoTemplate.indexOps(User.class).ensureIndex(new Index()
+                    .on("trustScore", org.springframework.data.domain.Sort.Direction.DESC)
+                    .on("username", org.springframework.data.domain.Sort.Direction.ASC));
+            log.info("Index verified on User.trustScore+username");
+        } catch (Exception e) {
+            log.error("Could not ensure trustScore index on User: {}", e.getMessage());
+        }
+
+        // 5. Group summaries read model: joinable listing per place, and "my groups" by member
+        try {
+            IndexOperations summaryIndexOps = mongoTemplate.indexOps(GroupSummary.class);
+            summaryIndexOps.ensureIndex(new Index()
+                    .on("placeId", org.springframework.data.domain.Sort.Direction.ASC)
+                    .on("visibility", org.springframework.data.domain.Sort.Direction.ASC)
+                    .on("status", org.springframework.data.domain.Sort.Direction.ASC));
+            summaryIndexOps.ensureIndex(new Index().on("memberUserIds", org.springframework.data.domain.Sort.Direction.ASC));
+            log.info("Indexes verified on GroupSummary.placeId+visibility+status and GroupSummary.memberUserIds");
+        } catch (Exception e) {
+            log.error("Could not ensure indexes on GroupSummary: {}", e.getMessage());
+        }
+
+        // 6. Optimistic locking: documents written before @Version existed have no
+        // version field, and saving them would be treated as an insert (duplicate key)
+        for (Class<?> versioned : new Class<?>[] { Group.class, GroupMember.class }) {
+            try {
+                long migrated = mongoTemplate.updateMulti(
+                        Query.query(Criteria.where("version").exists(false)),
+                        new Update().set("version", 0L),
+                        versioned).getModifiedCount();
+                if (migrated > 0) {
+                    log.info("Initialised version on {} {} documents", migrated, versioned.getSimpleName());
+                }
+            } catch (Exception e) {
+                log.error("Could not initialise version on {}: {}", versioned.getSimpleName(), e.getMessage());
+            }
+        }
+
+        // 7. Seat counter used by joins: backfill Group.memberCount from group_members
+        try {
+            Query uncounted = Query.query(Criteria.where("memberCount").exists(false));
+            uncounted.fields().include("id");
+            int backfilled = 0;
+            for (Group g : mongoTemplate.find(uncounted, Group.class)) {
+                long members = mongoTemplate.count(Query.query(Criteria.where("groupId").is(g.getId())), GroupMember.class);
+                backfilled += (int) mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("id").is(g.getId()).and("memberCount").exists(false)),
+                        new Update().set("memberCount", members).inc("version", 1),
+                        Group.class).getModifiedCount();
+            }
+            if (backfilled > 0) {
+                log.info("Initialised memberCount on {} Group documents", backfilled);
+            }
+        } catch (Exception e) {
+            log.error("Could not initialise memberCount on Group: {}", e.getMessage());
+        }
     }
 }
@@ -2,6 +2,7 @@ package com.app.localgroup.config;
 
 import com.app.localgroup.common.Constants;
 import com.app.localgroup.config.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,12 +32,19 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Reactive endpoints finish on an async dispatch; the initial
+                        // request was already authorized and the JWT is not re-read
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/ws").permitAll()
                         .requestMatchers("/ws/**").permitAll()
                         .requestMatchers("/places/**").permitAll()
                         .requestMatchers("/groups/place/**").permitAll()
+                        .requestMatchers("/reactive/places/**").permitAll()
+                        .requestMatchers("/reactive/groups/place/**").permitAll()
+                        // Guarded by its own token (see MetricsController)
+                        .requestMatchers("/metrics").permitAll()
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
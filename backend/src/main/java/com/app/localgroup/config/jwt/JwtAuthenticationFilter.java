@@ -12,7 +12,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -69,9 +68,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                 Collections.emptyList()
                         );
 
-                authentication.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
+                // Verified identity claims, so services can skip the user lookup
+                authentication.setDetails(TokenIdentity.fromClaims(claims));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
@@ -1,26 +1,104 @@
 package com.app.localgroup.config.jwt;
 
+import com.app.localgroup.common.cache.ExpiringCache;
+import com.app.localgroup.user.UserService;
+import com.app.localgroup.user.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
 
+/**
+ * Issues and verifies HS256 JWTs.
+ *
+ * The signing key and parser are built once at startup (both are immutable
+ * and thread-safe). Successfully verified tokens are remembered by SHA-256
+ * fingerprint until their own expiry, so repeat requests with the same bearer
+ * token skip signature verification and JSON parsing. Raw tokens are never
+ * held in memory.
+ */
 @Component
 public class JwtUtil {
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final long expirationMs;
+    private final ExpiringCache<String, Claims> verifiedTokens;
 
+    public JwtUtil(
+            @Value("${app.jwt.secret}") String jwtSecret,
+            @Value("${app.jwt.expiration-ms}") long expirationMs,
+            @Value("${app.jwt.verified-cache-size:10000}") int verifiedCacheSize
+    ) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.expirationMs = expirationMs;
+        this.verifiedTokens = new ExpiringCache<>("jwt-verified", verifiedCacheSize, expirationMs);
+    }
+
+    /**
+     * Verifies the token and returns its claims.
+     * Cached results are only served until the token's exp claim.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
     public Claims parseClaims(String token) {
-        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String fingerprint = fingerprint(token);
+        Claims cached = verifiedTokens.get(fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            verifiedTokens.put(fingerprint, claims, expiration.getTime());
+        }
+        return claims;
+    }
+
+    /**
+     * Issues a signed token for the user (subject = user id).
+     * Username, gender and profile completeness are embedded so hot paths
+     * can skip the user lookup (see {@link TokenIdentity}); re-issue after
+     * any of them change.
+     */
+    public String issueToken(User user) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(user.getId())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expirationMs))
+                .claim("email", user.getEmail())
+                .claim("phone", user.getPhone())
+                .claim(TokenIdentity.CLAIM_USERNAME, user.getUsername())
+                .claim(TokenIdentity.CLAIM_GENDER, user.getGender() != null ? user.getGender().name() : null)
+                .claim(TokenIdentity.CLAIM_PROFILE_COMPLETE, UserService.isProfileComplete(user))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public ExpiringCache<String, Claims> verifiedTokenCache() {
+        return verifiedTokens;
+    }
+
+    private static String fingerprint(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException(ex);
+        }
     }
 }
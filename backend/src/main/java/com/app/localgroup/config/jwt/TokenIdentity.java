@@ -0,0 +1,41 @@
+package com.app.localgroup.config.jwt;
+
+import com.app.localgroup.user.model.Gender;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Identity claims carried by a verified JWT.
+ *
+ * Set as the Authentication details by JwtAuthenticationFilter so services can
+ * skip loading the User document for checks the token already answers.
+ * Only trust these when {@link #profileComplete()} is true: age and gender are
+ * immutable once set, so a complete profile never becomes incomplete again.
+ * The username is not immutable (completeProfile allows renames), so it is
+ * never used to name the user to others; read it from UserSnapshotCache.
+ * Tokens issued before the claims existed read as incomplete and fall back
+ * to the database.
+ */
+public record TokenIdentity(String userId, String username, Gender gender, boolean profileComplete) {
+
+    public static final String CLAIM_USERNAME = "username";
+    public static final String CLAIM_GENDER = "gender";
+    public static final String CLAIM_PROFILE_COMPLETE = "pc";
+
+    public static TokenIdentity fromClaims(Claims claims) {
+        String gender = claims.get(CLAIM_GENDER, String.class);
+        return new TokenIdentity(
+                claims.getSubject(),
+                claims.get(CLAIM_USERNAME, String.class),
+                gender != null ? Gender.valueOf(gender) : null,
+                Boolean.TRUE.equals(claims.get(CLAIM_PROFILE_COMPLETE, Boolean.class))
+        );
+    }
+
+    /**
+     * @return the identity from the authentication's details, or null if absent
+     */
+    public static TokenIdentity of(Authentication auth) {
+        return auth != null && auth.getDetails() instanceof TokenIdentity identity ? identity : null;
+    }
+}
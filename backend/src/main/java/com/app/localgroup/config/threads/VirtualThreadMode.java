@@ -0,0 +1,125 @@
+package com.app.localgroup.config.threads;
+
+import com.app.localgroup.metrics.MetricsRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in virtual-thread execution (spring.threads.virtual.enabled).
+ *
+ * With the property set and a Java 21+ runtime, Boot runs Tomcat requests
+ * and @Scheduled jobs on virtual threads, and WebSocketConfig moves the STOMP
+ * inbound/outbound channels onto them via {@link #executor(String)}. On an
+ * older runtime the property is ignored with a warning, so one build serves
+ * both modes.
+ *
+ * Pinning diagnostics: while active, a JFR stream watches
+ * jdk.VirtualThreadPinned events longer than app.virtual-threads.pinning-threshold.
+ * Every event is counted under virtual-threads in /metrics; each distinct
+ * pinning site is logged once with its stack.
+ */
+@Component
+public class VirtualThreadMode {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadMode.class);
+
+    private static final int MIN_RUNTIME_VERSION = 21;
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_SITES = 256;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final boolean active;
+    private final Duration pinningThreshold;
+    private final AtomicLong pinnedEvents;
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream pinningStream;
+
+    public VirtualThreadMode(
+            MetricsRegistry metrics,
+            @Value("${spring.threads.virtual.enabled:false}") boolean requested,
+            @Value("${app.virtual-threads.pinning-threshold:PT0.02S}") Duration pinningThreshold
+    ) {
+        int runtime = Runtime.version().feature();
+        this.active = requested && runtime >= MIN_RUNTIME_VERSION;
+        this.pinningThreshold = pinningThreshold;
+        this.pinnedEvents = metrics.gauge("virtual-threads", "pinnedEvents");
+        metrics.gauge("virtual-threads", "active", () -> active ? 1 : 0);
+
+        if (requested && !active) {
+            log.warn("spring.threads.virtual.enabled is set but the runtime is Java {}; "
+                    + "virtual threads need Java {}+, staying on platform threads", runtime, MIN_RUNTIME_VERSION);
+        } else if (active) {
+            log.info("Virtual-thread mode active (Java {})", runtime);
+        }
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Unbounded executor that starts one named virtual thread per task.
+     */
+    public Executor executor(String threadNamePrefix) {
+        return new VirtualThreadTaskExecutor(threadNamePrefix);
+    }
+
+    // -------------------------------------------------------------------------
+    // Pinning diagnostics
+    // -------------------------------------------------------------------------
+
+    @PostConstruct
+    void startPinningDiagnostics() {
+        if (!active || pinningThreshold.isNegative() || pinningThreshold.isZero()) return;
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(pinningThreshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.setReuse(false);
+            stream.startAsync();
+            pinningStream = stream;
+            log.info("Watching virtual-thread pinning longer than {} ms", pinningThreshold.toMillis());
+        } catch (Exception | LinkageError ex) {
+            // JFR can be unavailable on some runtimes; diagnostics are best-effort
+            log.warn("Virtual-thread pinning diagnostics unavailable: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void stopPinningDiagnostics() {
+        if (pinningStream != null) pinningStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String site = frames.isEmpty() ? "unknown" : frame(frames.get(0));
+        if (loggedSites.size() >= MAX_LOGGED_SITES || !loggedSites.add(site)) return;
+
+        StringBuilder stack = new StringBuilder();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            stack.append("\n    at ").append(frame(frames.get(i)));
+        }
+        log.warn("Virtual thread pinned for {} ms at {}{}", event.getDuration().toMillis(), site, stack);
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
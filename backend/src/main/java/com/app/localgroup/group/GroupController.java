@@ -1,9 +1,13 @@
 package com.app.localgroup.group;
 
 import com.app.localgroup.common.ApiResponse;
+import com.app.localgroup.common.http.HttpCachePolicy;
+import com.app.localgroup.common.http.ReadModelVersions;
+import com.app.localgroup.config.jwt.TokenIdentity;
 import com.app.localgroup.group.dto.CreateGroupDto;
 import com.app.localgroup.group.dto.GroupDto;
 import com.app.localgroup.group.dto.UpdateGroupDto;
+import com.app.localgroup.group.invite.InviteTokenService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -11,6 +15,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -21,11 +26,13 @@ public class GroupController {
     private static final Logger log = LoggerFactory.getLogger(GroupController.class);
 
     private final GroupService groupService;
+    private final ReadModelVersions versions;
+    private final HttpCachePolicy cachePolicy;
 
     @PostMapping
     public ResponseEntity<ApiResponse<GroupDto>> create(@Valid @RequestBody CreateGroupDto dto, Authentication auth) {
         String userId = (String) auth.getPrincipal();
-        GroupDto g = groupService.createGroup(userId, dto);
+        GroupDto g = groupService.createGroup(userId, dto, TokenIdentity.of(auth));
         return ResponseEntity
                 .ok(ApiResponse.<GroupDto>builder().success(true).data(g).message("Group created").build());
     }
@@ -33,7 +40,7 @@ public class GroupController {
     @PostMapping("/{groupId}/join")
     public ResponseEntity<ApiResponse<String>> join(@PathVariable("groupId") String groupId, Authentication auth) {
         String userId = (String) auth.getPrincipal();
-        groupService.joinGroup(userId, groupId);
+        groupService.joinGroup(userId, groupId, TokenIdentity.of(auth));
         return ResponseEntity.ok(ApiResponse.<String>builder().success(true).message("Join requested").build());
     }
 
@@ -41,10 +48,19 @@ public class GroupController {
     public ResponseEntity<ApiResponse<String>> joinPrivate(@PathVariable("groupId") String groupId,
             @RequestParam("inviteCode") String inviteCode, Authentication auth) {
         String userId = (String) auth.getPrincipal();
-        groupService.joinPrivate(userId, groupId, inviteCode);
+        groupService.joinPrivate(userId, groupId, inviteCode, TokenIdentity.of(auth));
         return ResponseEntity.ok(ApiResponse.<String>builder().success(true).message("Join requested").build());
     }
 
+    @PostMapping("/{groupId}/invite-token")
+    public ResponseEntity<ApiResponse<InviteTokenService.InviteToken>> createInviteToken(
+            @PathVariable("groupId") String groupId, Authentication auth) {
+        String userId = (String) auth.getPrincipal();
+        InviteTokenService.InviteToken token = groupService.createInviteToken(userId, groupId);
+        return ResponseEntity.ok(ApiResponse.<InviteTokenService.InviteToken>builder()
+                .success(true).data(token).message("Invite token created").build());
+    }
+
     @PostMapping("/{groupId}/leave")
     public ResponseEntity<ApiResponse<String>> leave(@PathVariable("groupId") String groupId, Authentication auth) {
         String userId = (String) auth.getPrincipal();
@@ -80,8 +96,11 @@ public class GroupController {
     }
 
     @GetMapping("/place/{placeId}")
-    public ResponseEntity<ApiResponse<List<GroupDto>>> getByPlace(@PathVariable("placeId") String placeId) {
-        return ResponseEntity.ok(ApiResponse.<List<GroupDto>>builder()
+    public ResponseEntity<ApiResponse<List<GroupDto>>> getByPlace(@PathVariable("placeId") String placeId, WebRequest request) {
+        if (request.checkNotModified(versions.groupsAtPlaceETag(placeId))) {
+            return HttpCachePolicy.notModified(cachePolicy.groupsByPlace());
+        }
+        return ResponseEntity.ok().cacheControl(cachePolicy.groupsByPlace()).body(ApiResponse.<List<GroupDto>>builder()
                 .success(true)
                 .data(groupService.getGroupsByPlace(placeId))
                 .message("OK")
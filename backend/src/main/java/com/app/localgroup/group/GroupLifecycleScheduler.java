@@ -1,20 +1,29 @@
 package com.app.localgroup.group;
 
+import com.app.localgroup.common.retry.OptimisticRetry;
+import com.app.localgroup.group.event.GroupChangedEvent;
 import com.app.localgroup.group.model.Group;
 import com.app.localgroup.group.model.GroupMember;
 import com.app.localgroup.group.repository.GroupMemberRepository;
 import com.app.localgroup.group.repository.GroupRepository;
-import com.app.localgroup.user.model.User;
-import com.app.localgroup.user.repository.UserRepository;
+import com.app.localgroup.metrics.MetricsRegistry;
+import com.app.localgroup.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -24,7 +33,13 @@ public class GroupLifecycleScheduler {
 
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
-    private final UserRepository userRepository;
+    private final UserService userService;
+    private final MetricsRegistry metrics;
+    private final OptimisticRetry optimisticRetry;
+    private final ApplicationEventPublisher events;
+
+    /** groupId -> version at which confirmation was deferred for a seat without a member. */
+    private final Map<String, Long> unsettled = new ConcurrentHashMap<>();
 
     @Value("${app.group.confirmation-window-hours:24}")
     private long confirmationWindowHours;
@@ -35,79 +50,148 @@ public class GroupLifecycleScheduler {
     // Runs every minute to progress group states
     @Scheduled(fixedDelayString = "PT1M")
     public void run() {
+        long start = System.nanoTime();
         Instant now = Instant.now();
 
         // JOINABLE -> CONFIRMATION
-        groupRepository.findAll().stream().filter(g -> g.getStatus() == Group.Status.JOINABLE)
-                .filter(g -> g.getDateTime().minusSeconds(confirmationWindowHours * 3600).isBefore(now) || g.getDateTime().isBefore(now))
-                .forEach(g -> {
-                    List<GroupMember> members = groupMemberRepository.findByGroupId(g.getId());
-                    g.setConfirmationEligibleUserIds(members.stream().map(GroupMember::getUserId).distinct().toList());
-                    g.setStatus(Group.Status.CONFIRMATION);
-                    groupRepository.save(g);
-                    log.info("Group {} transitioned JOINABLE->CONFIRMATION", g.getId());
-                });
+        Predicate<Group> dueForConfirmation = g -> g.getStatus() == Group.Status.JOINABLE
+                && (g.getDateTime().minusSeconds(confirmationWindowHours * 3600).isBefore(now) || g.getDateTime().isBefore(now));
+        List<Group> toConfirm = groupRepository.findAll().stream().filter(dueForConfirmation).toList();
+        unsettled.keySet().retainAll(toConfirm.stream().map(Group::getId).collect(Collectors.toSet()));
+        toConfirm.forEach(g -> {
+            boolean moved = transition(g, dueForConfirmation.and(this::settled), current -> {
+                List<GroupMember> members = groupMemberRepository.findByGroupId(current.getId());
+                // Gives back the seat of a join that died before inserting its member
+                current.setMemberCount(members.size());
+                current.setConfirmationEligibleUserIds(members.stream().map(GroupMember::getUserId).distinct().toList());
+                current.setStatus(Group.Status.CONFIRMATION);
+            }) != null;
+            if (moved) {
+                unsettled.remove(g.getId());
+                statusChanged(g);
+                log.info("Group {} transitioned JOINABLE->CONFIRMATION", g.getId());
+            }
+        });
 
         // CONFIRMATION -> ACTIVE (at event time)
-        groupRepository.findAll().stream().filter(g -> g.getStatus() == Group.Status.CONFIRMATION)
-                .filter(g -> !g.getDateTime().isAfter(now))
-                .forEach(g -> {
-                    List<String> eligibleUsers = g.getConfirmationEligibleUserIds();
-                    if (eligibleUsers == null || eligibleUsers.isEmpty()) {
-                        eligibleUsers = groupMemberRepository.findByGroupId(g.getId()).stream()
-                                .map(GroupMember::getUserId)
-                                .distinct()
-                                .toList();
-                    }
-
-                    // penalty + remove unconfirmed eligible users
-                    for (String userId : eligibleUsers) {
+        Predicate<Group> dueForActivation = g -> g.getStatus() == Group.Status.CONFIRMATION
+                && !g.getDateTime().isAfter(now);
+        List<Group> toActivate = groupRepository.findAll().stream().filter(dueForActivation).toList();
+        toActivate.forEach(g -> {
+            List<String> eligibleUsers = eligibleUserIds(g);
+
+            // penalty + remove unconfirmed eligible users
+            boolean anyRemoved = false;
+            for (String userId : eligibleUsers) {
+                // Versioned delete: a member who confirms meanwhile is re-read and kept
+                boolean removed = optimisticRetry.run("group-member.no-show", () ->
                         groupMemberRepository.findByGroupId(g.getId()).stream()
-                                .filter(m -> m.getUserId().equals(userId))
+                                .filter(m -> m.getUserId().equals(userId) && !m.isConfirmed())
                                 .findFirst()
-                                .ifPresent(m -> {
-                                    if (!m.isConfirmed()) {
-                                        userRepository.findById(m.getUserId()).ifPresent(u -> {
-                                            u.setTrustScore(u.getTrustScore() - 2); // penalty for no-show
-                                            userRepository.save(u);
-                                        });
-                                        groupMemberRepository.delete(m);
-                                    }
-                                });
-                    }
-
-                    long confirmedEligible = eligibleUsers.stream().filter(uid ->
-                            groupMemberRepository.findByGroupId(g.getId()).stream()
-                                    .anyMatch(m -> m.getUserId().equals(uid) && m.isConfirmed())
-                    ).count();
-
-                    if (!eligibleUsers.isEmpty() && confirmedEligible == eligibleUsers.size()) {
-                        g.setStatus(Group.Status.ACTIVE);
-                        groupRepository.save(g);
-                        log.info("Group {} transitioned CONFIRMATION->ACTIVE", g.getId());
-                    } else {
-                        g.setStatus(Group.Status.EXPIRED);
-                        groupRepository.save(g);
-                        log.info("Group {} expired due to insufficient confirmed members", g.getId());
-                    }
-                });
+                                .map(m -> {
+                                    groupMemberRepository.delete(m);
+                                    return true;
+                                })
+                                .orElse(false));
+                if (removed) {
+                    anyRemoved = true;
+                    if (groupRepository.releaseSeat(g.getId()) == 0) groupRepository.touch(g.getId());
+                    userService.adjustTrust(userId, -2, 0); // penalty for no-show
+                    events.publishEvent(new GroupChangedEvent(
+                            g.getId(), g.getPlaceId(), GroupChangedEvent.Change.MEMBER_LEFT, userId));
+                }
+            }
+
+            // Each removal bumped the version; start from a copy that includes them
+            Group loaded = anyRemoved ? groupRepository.findById(g.getId()).orElse(null) : g;
+            if (loaded == null) return;
+            Group saved = transition(loaded, dueForActivation, current -> {
+                List<GroupMember> members = groupMemberRepository.findByGroupId(current.getId());
+                long confirmedEligible = eligibleUsers.stream().filter(uid ->
+                        members.stream().anyMatch(m -> m.getUserId().equals(uid) && m.isConfirmed())
+                ).count();
+                current.setStatus(!eligibleUsers.isEmpty() && confirmedEligible == eligibleUsers.size()
+                        ? Group.Status.ACTIVE : Group.Status.EXPIRED);
+            });
+            if (saved != null) {
+                statusChanged(saved);
+                if (saved.getStatus() == Group.Status.ACTIVE) {
+                    log.info("Group {} transitioned CONFIRMATION->ACTIVE", g.getId());
+                } else {
+                    log.info("Group {} expired due to insufficient confirmed members", g.getId());
+                }
+            }
+        });
 
         // ACTIVE -> EXPIRED after event time + buffer
-        groupRepository.findAll().stream().filter(g -> g.getStatus() == Group.Status.ACTIVE)
-                .filter(g -> g.getDateTime().plusSeconds(expireBufferMinutes * 60).isBefore(now))
-                .forEach(g -> {
-                    // award +1 for confirmed attendance and count trips
-                    groupMemberRepository.findByGroupId(g.getId()).stream().filter(GroupMember::isConfirmed).forEach(m -> {
-                        userRepository.findById(m.getUserId()).ifPresent(u -> {
-                            u.setTrustScore(u.getTrustScore() + 1);
-                            u.setTotalTrips(u.getTotalTrips() + 1);
-                            userRepository.save(u);
-                        });
-                    });
-
-                    g.setStatus(Group.Status.EXPIRED);
-                    groupRepository.save(g);
-                    log.info("Group {} transitioned ACTIVE->EXPIRED", g.getId());
-                });
+        Predicate<Group> dueForExpiry = g -> g.getStatus() == Group.Status.ACTIVE
+                && g.getDateTime().plusSeconds(expireBufferMinutes * 60).isBefore(now);
+        List<Group> toExpire = groupRepository.findAll().stream().filter(dueForExpiry).toList();
+        toExpire.forEach(g -> {
+            // Expire first, so a transition that loses a race never awards twice
+            if (transition(g, dueForExpiry, current -> current.setStatus(Group.Status.EXPIRED)) == null) return;
+
+            // award +1 for confirmed attendance and count trips
+            groupMemberRepository.findByGroupId(g.getId()).stream().filter(GroupMember::isConfirmed).forEach(m -> {
+                userService.adjustTrust(m.getUserId(), 1, 1);
+            });
+            statusChanged(g);
+            log.info("Group {} transitioned ACTIVE->EXPIRED", g.getId());
+        });
+
+        // Tick duration and how many groups were due (backlog) in this tick
+        metrics.histogram("scheduler", "group-lifecycle.tick").recordNanos(System.nanoTime() - start);
+        metrics.gauge("scheduler", "group-lifecycle.due").set(toConfirm.size() + toActivate.size() + toExpire.size());
+    }
+
+    /**
+     * Applies {@code change} and saves, as long as the group is still {@code due}.
+     * On a version conflict (a creator's update, a member leaving as creator,
+     * another node's tick) the group is reloaded and re-checked, so the
+     * transition never overwrites that change and is never applied twice.
+     *
+     * @return the saved group, or null if it was no longer due
+     */
+    private Group transition(Group g, Predicate<Group> due, Consumer<Group> change) {
+        return optimisticRetry.run("group.lifecycle", attempt -> {
+            Group current = attempt == 1 ? g : groupRepository.findById(g.getId()).orElse(null);
+            if (current == null || !due.test(current)) return null;
+            change.accept(current);
+            return groupRepository.save(current);
+        });
+    }
+
+    /**
+     * Whether the group's member documents match its seats, so they can be
+     * snapshotted at JOINABLE -> CONFIRMATION. A join takes its seat
+     * (memberCount, versioned) before inserting its member document and bumps
+     * the version again after it, so fewer documents than seats means a join
+     * is in flight: the group waits for the next tick instead. If by then the
+     * version has not moved, the join died in between and its seat is given
+     * back when the transition saves the count of members actually present.
+     */
+    private boolean settled(Group current) {
+        int present = groupMemberRepository.findByGroupId(current.getId()).size();
+        if (present >= current.getMemberCount()) return true;
+
+        Long deferredAt = unsettled.put(current.getId(), current.getVersion());
+        if (deferredAt != null && Objects.equals(deferredAt, current.getVersion())) return true;
+        log.debug("Group {} has {} seats but {} members; confirming next tick", current.getId(), current.getMemberCount(), present);
+        return false;
+    }
+
+    private List<String> eligibleUserIds(Group g) {
+        List<String> eligibleUsers = g.getConfirmationEligibleUserIds();
+        if (eligibleUsers == null || eligibleUsers.isEmpty()) {
+            eligibleUsers = groupMemberRepository.findByGroupId(g.getId()).stream()
+                    .map(GroupMember::getUserId)
+                    .distinct()
+                    .toList();
+        }
+        return eligibleUsers;
+    }
+
+    private void statusChanged(Group g) {
+        events.publishEvent(new GroupChangedEvent(g.getId(), g.getPlaceId(), GroupChangedEvent.Change.STATUS_CHANGED));
     }
 }
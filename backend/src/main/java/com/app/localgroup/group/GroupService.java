@@ -1,30 +1,43 @@
 package com.app.localgroup.group;
 
+import com.app.localgroup.config.jwt.TokenIdentity;
+import com.app.localgroup.common.retry.OptimisticRetry;
+import com.app.localgroup.group.cache.GroupDtoCache;
 import com.app.localgroup.group.dto.CreateGroupDto;
 import com.app.localgroup.group.dto.GroupDto;
 import com.app.localgroup.group.dto.MemberInfoDto;
 import com.app.localgroup.group.dto.UpdateGroupDto;
+import com.app.localgroup.group.event.GroupChangedEvent;
+import com.app.localgroup.group.invite.InviteAttemptThrottle;
+import com.app.localgroup.group.invite.InviteTokenService;
+import com.app.localgroup.group.invite.InviteTokenStatus;
 import com.app.localgroup.group.model.Group;
 import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.model.GroupSummary;
 import com.app.localgroup.group.model.GenderRestriction;
 import com.app.localgroup.group.repository.GroupMemberRepository;
 import com.app.localgroup.group.repository.GroupRepository;
+import com.app.localgroup.group.repository.GroupSummaryRepository;
 import com.app.localgroup.place.PlaceService;
 import com.app.localgroup.place.model.Place;
-import com.app.localgroup.user.UserService;
-import com.app.localgroup.user.model.User;
+import com.app.localgroup.user.block.BlockListCache;
+import com.app.localgroup.user.cache.UserSnapshot;
+import com.app.localgroup.user.cache.UserSnapshotCache;
 import com.app.localgroup.user.model.Gender;
-import com.app.localgroup.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,9 +47,17 @@ public class GroupService {
 
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
-    private final UserRepository userRepository;
+    private final GroupSummaryRepository groupSummaryRepository;
     private final PlaceService placeService;
-
+    private final InviteTokenService inviteTokenService;
+    private final InviteAttemptThrottle inviteAttemptThrottle;
+    private final BlockListCache blockListCache;
+    private final UserSnapshotCache userSnapshotCache;
+    private final GroupDtoCache groupDtoCache;
+    private final OptimisticRetry optimisticRetry;
+    private final ApplicationEventPublisher events;
+
+    // Legacy invite codes only; new invites use signed tokens from InviteTokenService
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
     // -------------------------------------------------------------------------
@@ -44,18 +65,24 @@ public class GroupService {
     // -------------------------------------------------------------------------
 
     /**
-     * Loads the user and verifies profile completeness.
+     * Verifies profile completeness and returns the user's gender.
+     * Verified token claims are trusted when they report a complete profile
+     * (age and gender are immutable, so completeness never regresses);
+     * otherwise the user is loaded.
      * Throws IllegalStateException if profile is incomplete.
      */
-    private User requireCompleteProfile(String userId) {
-        User user = userRepository.findById(userId)
+    private Gender requireCompleteProfile(String userId, TokenIdentity identity) {
+        if (identity != null && identity.profileComplete() && userId.equals(identity.userId())) {
+            return identity.gender();
+        }
+        UserSnapshot user = userSnapshotCache.get(userId)
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        if (!UserService.isProfileComplete(user)) {
+        if (!user.profileComplete()) {
             throw new IllegalStateException(
                 "Your profile must be completed before performing this action. "
                 + "Please set your username, age, and gender first.");
         }
-        return user;
+        return user.gender();
     }
 
     // -------------------------------------------------------------------------
@@ -63,8 +90,12 @@ public class GroupService {
     // -------------------------------------------------------------------------
 
     public GroupDto createGroup(String creatorId, CreateGroupDto dto) {
+        return createGroup(creatorId, dto, null);
+    }
+
+    public GroupDto createGroup(String creatorId, CreateGroupDto dto, TokenIdentity identity) {
         // Profile completeness guard
-        requireCompleteProfile(creatorId);
+        requireCompleteProfile(creatorId, identity);
 
         if ((dto.getPlaceId() == null || dto.getPlaceId().isBlank()) && dto.getMapPlace() == null) {
             throw new IllegalArgumentException("Either placeId or mapPlace must be provided");
@@ -97,18 +128,21 @@ public class GroupService {
             .visibility(dto.getVisibility())
             .status(Group.Status.JOINABLE)
             .genderRestriction(restriction)
+            .memberCount(1)
             .build();
 
-        if (dto.getVisibility() == Group.Visibility.PRIVATE) {
-            if (dto.getInviteCode() == null || dto.getInviteCode().isBlank()) {
-                throw new IllegalArgumentException("Private groups require an invite code");
-            }
+        // Private groups may still set a shared invite code (hashed, legacy);
+        // without one, the creator shares signed invite tokens instead
+        if (dto.getVisibility() == Group.Visibility.PRIVATE
+                && dto.getInviteCode() != null && !dto.getInviteCode().isBlank()) {
             g.setInviteCodeHash(passwordEncoder.encode(dto.getInviteCode()));
         }
 
         Group saved = groupRepository.save(g);
         GroupMember gm = GroupMember.builder().groupId(saved.getId()).userId(creatorId).confirmed(true).build();
         groupMemberRepository.save(gm);
+        groupRepository.touch(saved.getId());
+        events.publishEvent(new GroupChangedEvent(saved.getId(), saved.getPlaceId(), GroupChangedEvent.Change.CREATED, creatorId));
 
         log.info("Group created: {} by {} with place: {} restriction: {}",
             saved.getId(), creatorId, resolvedPlaceId, restriction);
@@ -120,8 +154,12 @@ public class GroupService {
     // -------------------------------------------------------------------------
 
     public void joinGroup(String userId, String groupId) {
+        joinGroup(userId, groupId, null);
+    }
+
+    public void joinGroup(String userId, String groupId, TokenIdentity identity) {
         // Profile completeness guard
-        User joiner = requireCompleteProfile(userId);
+        Gender joinerGender = requireCompleteProfile(userId, identity);
 
         Group g = groupRepository.findById(groupId)
             .orElseThrow(() -> new ResourceNotFoundException("Group not found"));
@@ -130,30 +168,40 @@ public class GroupService {
             throw new IllegalStateException("Group is not joinable");
         }
 
-        long members = groupMemberRepository.findByGroupId(groupId).size();
-        if (members >= g.getMaxSize()) {
-            throw new IllegalStateException("Group is full");
-        }
-
         if (g.getCreatorId().equals(userId)) {
             throw new IllegalStateException("Creator is already a member");
         }
 
-        userRepository.findById(g.getCreatorId()).ifPresent(creator -> {
-            if (creator.getBlockedUsers().contains(userId)) {
-                throw new IllegalStateException("You are blocked by the group creator");
-            }
-        });
+        if (blockListCache.isBlocked(g.getCreatorId(), userId)) {
+            throw new IllegalStateException("You are blocked by the group creator");
+        }
 
         boolean already = groupMemberRepository.findByGroupId(groupId)
             .stream().anyMatch(m -> m.getUserId().equals(userId));
         if (already) throw new IllegalStateException("Already a member");
 
         // Gender restriction enforcement (backend-only)
-        enforceGenderRestriction(g, joiner);
+        enforceGenderRestriction(g, joinerGender);
+
+        // Capacity and status are enforced by the atomic seat reservation, not by
+        // the copy loaded above, so concurrent joins cannot overfill the group
+        if (groupRepository.reserveSeat(groupId) == 0) {
+            boolean joinable = groupRepository.findById(groupId)
+                .map(current -> current.getStatus() == Group.Status.JOINABLE)
+                .orElse(false);
+            throw new IllegalStateException(joinable ? "Group is full" : "Group is not joinable");
+        }
 
         GroupMember gm = GroupMember.builder().groupId(groupId).userId(userId).confirmed(false).build();
-        groupMemberRepository.save(gm);
+        try {
+            groupMemberRepository.save(gm);
+        } catch (RuntimeException ex) {
+            groupRepository.releaseSeat(groupId);
+            throw ex;
+        }
+        // The seat's bump came before the insert; bump again so projections order after it
+        groupRepository.touch(groupId);
+        events.publishEvent(new GroupChangedEvent(groupId, g.getPlaceId(), GroupChangedEvent.Change.MEMBER_JOINED, userId));
     }
 
     /**
@@ -165,14 +213,14 @@ public class GroupService {
      * - FEMALE_ONLY → only FEMALE; MALE and OTHER are rejected
      *
      * Users with Gender.OTHER can only join EVERYONE groups.
+     * Package-private for the benchmarks module.
      */
-    private void enforceGenderRestriction(Group g, User joiner) {
+    void enforceGenderRestriction(Group g, Gender joinerGender) {
         GenderRestriction restriction = g.getGenderRestriction();
         if (restriction == null || restriction == GenderRestriction.EVERYONE) {
             return; // No restriction
         }
 
-        Gender joinerGender = joiner.getGender();
         // joinerGender cannot be null here because requireCompleteProfile() was already called
 
         boolean allowed = switch (restriction) {
@@ -194,19 +242,64 @@ public class GroupService {
     // -------------------------------------------------------------------------
 
     public void joinPrivate(String userId, String groupId, String inviteCode) {
+        joinPrivate(userId, groupId, inviteCode, null);
+    }
+
+    /**
+     * Joins a private group with either a signed invite token (cheap HMAC check)
+     * or a legacy invite code (BCrypt). Failed attempts are throttled per user,
+     * and per group before any legacy code is hashed.
+     */
+    public void joinPrivate(String userId, String groupId, String inviteCode, TokenIdentity identity) {
+        inviteAttemptThrottle.checkUser(userId);
+        if (inviteCode == null || inviteCode.isBlank()) {
+            throw new IllegalArgumentException("Invite code is required");
+        }
+
         // Profile completeness is checked inside joinGroup
         Group g = groupRepository.findById(groupId)
             .orElseThrow(() -> new ResourceNotFoundException("Group not found"));
         if (g.getVisibility() != Group.Visibility.PRIVATE) {
             throw new IllegalStateException("Not a private group");
         }
-        if (g.getInviteCodeHash() == null) {
-            throw new IllegalStateException("No invite code set");
+
+        if (InviteTokenService.isSignedToken(inviteCode)) {
+            InviteTokenStatus status = inviteTokenService.verify(groupId, inviteCode);
+            if (status != InviteTokenStatus.VALID) {
+                inviteAttemptThrottle.recordFailure(userId, groupId);
+                throw new IllegalStateException(status == InviteTokenStatus.EXPIRED
+                    ? "Invite link has expired" : "Invalid invite code");
+            }
+        } else {
+            if (g.getInviteCodeHash() == null) {
+                throw new IllegalStateException("No invite code set");
+            }
+            inviteAttemptThrottle.checkLegacyGroup(groupId);
+            if (!passwordEncoder.matches(inviteCode, g.getInviteCodeHash())) {
+                inviteAttemptThrottle.recordFailure(userId, groupId);
+                throw new IllegalStateException("Invalid invite code");
+            }
         }
-        if (!passwordEncoder.matches(inviteCode, g.getInviteCodeHash())) {
-            throw new IllegalStateException("Invalid invite code");
+        joinGroup(userId, groupId, identity);
+    }
+
+    /**
+     * Issues a signed invite token for a private group. Creator only.
+     * Tokens expire after app.invite.ttl or at the meetup time, whichever is first.
+     */
+    public InviteTokenService.InviteToken createInviteToken(String userId, String groupId) {
+        Group g = groupRepository.findById(groupId)
+            .orElseThrow(() -> new ResourceNotFoundException("Group not found"));
+        if (!g.getCreatorId().equals(userId)) {
+            throw new IllegalStateException("Only the creator can create invite links");
+        }
+        if (g.getVisibility() != Group.Visibility.PRIVATE) {
+            throw new IllegalStateException("Not a private group");
+        }
+        if (g.getStatus() != Group.Status.JOINABLE) {
+            throw new IllegalStateException("Group is not joinable");
         }
-        joinGroup(userId, groupId);
+        return inviteTokenService.issue(groupId, g.getDateTime());
     }
 
     // -------------------------------------------------------------------------
@@ -214,6 +307,14 @@ public class GroupService {
     // -------------------------------------------------------------------------
 
     public GroupDto updateGroup(String userId, String groupId, UpdateGroupDto dto) {
+        // Checks and changes are re-applied to a fresh copy if the scheduler
+        // (or another request) saved the group in between
+        Group saved = optimisticRetry.run("group.update", () -> applyUpdate(userId, groupId, dto));
+        events.publishEvent(new GroupChangedEvent(groupId, saved.getPlaceId(), GroupChangedEvent.Change.UPDATED));
+        return toDto(saved, userId);
+    }
+
+    private Group applyUpdate(String userId, String groupId, UpdateGroupDto dto) {
         Group g = groupRepository.findById(groupId)
             .orElseThrow(() -> new ResourceNotFoundException("Group not found"));
         if (!g.getCreatorId().equals(userId)) {
@@ -223,7 +324,9 @@ public class GroupService {
             throw new IllegalStateException("Cannot update group in ACTIVE or EXPIRED state");
         }
 
-        long currentMemberCount = groupMemberRepository.findByGroupId(groupId).size();
+        // Seats, not member documents: includes joins still in flight, and any
+        // join after this read bumps the version and fails the save below
+        long currentMemberCount = g.getMemberCount();
         if (dto.getMaxSize() != null) {
             if (dto.getMaxSize() < currentMemberCount) {
                 throw new IllegalArgumentException("maxSize must be >= current member count (" + currentMemberCount + ")");
@@ -236,9 +339,7 @@ public class GroupService {
             }
             g.setDateTime(dto.getDateTime());
         }
-
-        Group saved = groupRepository.save(g);
-        return toDto(saved, userId);
+        return groupRepository.save(g);
     }
 
     // -------------------------------------------------------------------------
@@ -252,16 +353,43 @@ public class GroupService {
             throw new IllegalStateException("Cannot leave an active group");
         }
 
-        List<GroupMember> members = groupMemberRepository.findByGroupId(groupId);
-        Optional<GroupMember> membership = members.stream()
-            .filter(m -> m.getUserId().equals(userId)).findFirst();
-        if (membership.isEmpty()) throw new IllegalStateException("Not a member");
-        groupMemberRepository.delete(membership.get());
-
-        if (g.getCreatorId().equals(userId) && g.getStatus() != Group.Status.ACTIVE) {
-            g.setStatus(Group.Status.EXPIRED);
-            groupRepository.save(g);
-            log.info("Group {} expired because creator left before ACTIVE", groupId);
+        // A versioned delete fails if the membership changed meanwhile (e.g. a
+        // confirmation); re-read it rather than deleting a stale copy
+        optimisticRetry.run("group-member.leave", () -> {
+            Optional<GroupMember> membership = groupMemberRepository.findByGroupId(groupId).stream()
+                .filter(m -> m.getUserId().equals(userId)).findFirst();
+            if (membership.isEmpty()) throw new IllegalStateException("Not a member");
+            groupMemberRepository.delete(membership.get());
+            return membership.get();
+        });
+        memberRemoved(groupId);
+        events.publishEvent(new GroupChangedEvent(groupId, g.getPlaceId(), GroupChangedEvent.Change.MEMBER_LEFT, userId));
+
+        if (g.getCreatorId().equals(userId)) {
+            boolean expired = optimisticRetry.run("group.leave", attempt -> {
+                Group current = attempt == 1 ? g : groupRepository.findById(groupId).orElse(null);
+                if (current == null || current.getStatus() == Group.Status.ACTIVE
+                        || current.getStatus() == Group.Status.EXPIRED) {
+                    return false;
+                }
+                current.setStatus(Group.Status.EXPIRED);
+                groupRepository.save(current);
+                return true;
+            });
+            if (expired) {
+                events.publishEvent(new GroupChangedEvent(groupId, g.getPlaceId(), GroupChangedEvent.Change.STATUS_CHANGED));
+                log.info("Group {} expired because creator left before ACTIVE", groupId);
+            }
+        }
+    }
+
+    /**
+     * After a member delete: gives the seat back, which also bumps the group
+     * version. Groups whose counter is already 0 (legacy data) still get the bump.
+     */
+    private void memberRemoved(String groupId) {
+        if (groupRepository.releaseSeat(groupId) == 0) {
+            groupRepository.touch(groupId);
         }
     }
 
@@ -278,41 +406,53 @@ public class GroupService {
             throw new IllegalStateException("Confirmation not allowed in current state");
         }
 
-        List<GroupMember> members = groupMemberRepository.findByGroupId(groupId);
-        GroupMember member = members.stream()
-            .filter(m -> m.getUserId().equals(userId)).findFirst()
-            .orElseThrow(() -> new IllegalStateException("Not a member"));
-        if (member.isConfirmed()) return;
-
-        member.setConfirmed(true);
-        groupMemberRepository.save(member);
+        boolean confirmed = optimisticRetry.run("group-member.confirm", () -> {
+            GroupMember member = groupMemberRepository.findByGroupId(groupId).stream()
+                .filter(m -> m.getUserId().equals(userId)).findFirst()
+                .orElseThrow(() -> new IllegalStateException("Not a member"));
+            if (member.isConfirmed()) return false;
+            member.setConfirmed(true);
+            groupMemberRepository.save(member);
+            return true;
+        });
+        if (!confirmed) return;
+        groupRepository.touch(groupId);
+        events.publishEvent(new GroupChangedEvent(groupId, g.getPlaceId(), GroupChangedEvent.Change.MEMBER_CONFIRMED, userId));
     }
 
     // -------------------------------------------------------------------------
     // Queries
     // -------------------------------------------------------------------------
 
+    /**
+     * Listings read the group_summaries read model: one indexed query, plus
+     * one batched user lookup for groups that show their members.
+     */
     public List<GroupDto> getMyGroups(String userId) {
-        return groupMemberRepository.findByUserId(userId).stream()
-            .map(m -> groupRepository.findById(m.getGroupId()))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .map(g -> toDto(g, userId))
-            .toList();
+        return toDtos(groupSummaryRepository.findByMemberUserIds(userId), userId);
     }
 
     public List<GroupDto> getGroupsByPlace(String placeId) {
-        return groupRepository.findByPlaceId(placeId).stream()
-            .filter(g -> g.getVisibility() == Group.Visibility.PUBLIC
-                      && g.getStatus() == Group.Status.JOINABLE)
-            .map(this::toDto)
-            .toList();
+        return toDtos(groupSummaryRepository.findJoinableByPlaceId(placeId), null);
     }
 
+    /**
+     * Served from {@link GroupDtoCache} while the group is unchanged; only the
+     * caller's "confirmed" flag is computed per request.
+     */
     public GroupDto getGroupById(String groupId, String userId) {
+        return groupDtoCache.get(groupId, userId, this::loadCacheable);
+    }
+
+    private GroupDtoCache.Loaded loadCacheable(String groupId) {
         Group g = groupRepository.findById(groupId)
             .orElseThrow(() -> new ResourceNotFoundException("Group not found"));
-        return toDto(g, userId);
+        List<GroupMember> members = groupMemberRepository.findByGroupId(groupId);
+        Set<String> confirmedUserIds = members.stream()
+            .filter(GroupMember::isConfirmed)
+            .map(GroupMember::getUserId)
+            .collect(Collectors.toSet());
+        return new GroupDtoCache.Loaded(toDto(g, null, members), confirmedUserIds);
     }
 
     // -------------------------------------------------------------------------
@@ -323,23 +463,68 @@ public class GroupService {
         return toDto(g, null);
     }
 
+    private List<GroupDto> toDtos(List<GroupSummary> summaries, String userId) {
+        List<String> shownMembers = summaries.stream()
+            .filter(s -> listsMembers(s.getStatus()))
+            .flatMap(s -> s.getMemberUserIds().stream())
+            .toList();
+        Map<String, UserSnapshot> users = shownMembers.isEmpty() ? Map.of() : userSnapshotCache.getAll(shownMembers);
+        return summaries.stream().map(s -> fromSummary(s, userId, users)).toList();
+    }
+
     public GroupDto toDto(Group g, String userId) {
-        long memberCount = groupMemberRepository.findByGroupId(g.getId()).size();
-        boolean userConfirmed = false;
-        if (userId != null) {
-            userConfirmed = groupMemberRepository.findByGroupId(g.getId()).stream()
-                .anyMatch(m -> m.getUserId().equals(userId) && m.isConfirmed());
-        }
+        return toDto(g, userId, groupMemberRepository.findByGroupId(g.getId()));
+    }
+
+    private GroupDto toDto(Group g, String userId, List<GroupMember> members) {
+        Place place = g.getPlaceId() != null ? placeService.findById(g.getPlaceId()).orElse(null) : null;
+        // One batched lookup for all members instead of one query per member
+        Map<String, UserSnapshot> users = listsMembers(g)
+            ? userSnapshotCache.getAll(members.stream().map(GroupMember::getUserId).toList())
+            : Map.of();
+        return assemble(g, userId, members, place, users);
+    }
 
-        List<String> eligibleUserIds = (g.getConfirmationEligibleUserIds() == null
-            || g.getConfirmationEligibleUserIds().isEmpty())
-            ? groupMemberRepository.findByGroupId(g.getId()).stream()
-                .map(GroupMember::getUserId).distinct().toList()
+    /**
+     * Member details are only shown once a group is in CONFIRMATION or ACTIVE.
+     */
+    public static boolean listsMembers(Group g) {
+        return listsMembers(g.getStatus());
+    }
+
+    public static boolean listsMembers(Group.Status status) {
+        return status == Group.Status.CONFIRMATION || status == Group.Status.ACTIVE;
+    }
+
+    /**
+     * Members snapshotted at CONFIRMATION, or all current members before that.
+     */
+    public static List<String> confirmationEligibleUserIds(Group g, List<GroupMember> members) {
+        return (g.getConfirmationEligibleUserIds() == null || g.getConfirmationEligibleUserIds().isEmpty())
+            ? members.stream().map(GroupMember::getUserId).distinct().toList()
             : g.getConfirmationEligibleUserIds();
+    }
 
-        long confirmedEligible = groupMemberRepository.findByGroupId(g.getId()).stream()
+    public static int confirmedEligibleCount(List<String> eligibleUserIds, List<GroupMember> members) {
+        return (int) members.stream()
             .filter(m -> eligibleUserIds.contains(m.getUserId()) && m.isConfirmed())
             .count();
+    }
+
+    /**
+     * Builds the DTO from already-loaded parts. Shared with the reactive read
+     * path, which loads members, place and users concurrently.
+     *
+     * @param place the group's place, or null if it has none / was not found
+     * @param users member snapshots by user id; only read when {@link #listsMembers(Group)}
+     */
+    public static GroupDto assemble(Group g, String userId, List<GroupMember> members,
+                                    Place place, Map<String, UserSnapshot> users) {
+        boolean userConfirmed = userId != null && members.stream()
+            .anyMatch(m -> m.getUserId().equals(userId) && m.isConfirmed());
+
+        List<String> eligibleUserIds = confirmationEligibleUserIds(g, members);
+        int confirmedEligible = confirmedEligibleCount(eligibleUserIds, members);
 
         GroupDto.GroupDtoBuilder builder = GroupDto.builder()
             .id(g.getId())
@@ -352,42 +537,72 @@ public class GroupService {
             .genderRestriction(g.getGenderRestriction() != null
                 ? g.getGenderRestriction() : GenderRestriction.EVERYONE)
             .createdAt(g.getCreatedAt())
-            .memberCount(memberCount)
+            .memberCount(members.size())
             .confirmed(userConfirmed)
             .confirmationEligibleCount(eligibleUserIds.size())
-            .confirmationConfirmedCount((int) confirmedEligible);
+            .confirmationConfirmedCount(confirmedEligible);
 
         // --- Place enrichment (flat fields — no wrapper DTO) ---
-        if (g.getPlaceId() != null) {
-            placeService.findById(g.getPlaceId()).ifPresent(place -> {
-                builder.placeName(place.getName());
-                builder.placeCategory(place.getCategory() != null
-                    ? place.getCategory().name() : null);
-                // placeAddress: Place model has no address field currently;
-                // field included for forward-compatibility, left null.
-                builder.placeAddress(null);
-            });
+        if (place != null) {
+            builder.placeName(place.getName());
+            builder.placeCategory(place.getCategory() != null
+                ? place.getCategory().name() : null);
+            // placeAddress: Place model has no address field currently;
+            // field included for forward-compatibility, left null.
+            builder.placeAddress(null);
         }
 
         // --- Member list for CONFIRMATION and ACTIVE states ---
-        if (g.getStatus() == Group.Status.CONFIRMATION || g.getStatus() == Group.Status.ACTIVE) {
-            List<MemberInfoDto> members = groupMemberRepository.findByGroupId(g.getId()).stream()
-                .map(m -> userRepository.findById(m.getUserId())
-                    .map(u -> MemberInfoDto.builder()
-                        .userId(u.getId())
-                        .username(u.getUsername())   // username only — never email
-                        .trustScore(u.getTrustScore())
-                        .totalTrips(u.getTotalTrips())
-                        .build())
-                    .orElse(null))
-                .filter(Objects::nonNull)
-                .toList();
-            builder.members(members);
+        if (listsMembers(g)) {
+            builder.members(memberInfos(members.stream().map(GroupMember::getUserId).distinct().toList(), users));
         }
 
         return builder.build();
     }
 
+    /**
+     * Same DTO as {@link #assemble} from a group_summaries document.
+     *
+     * @param users member snapshots by user id; only read for CONFIRMATION and ACTIVE groups
+     */
+    public static GroupDto fromSummary(GroupSummary s, String userId, Map<String, UserSnapshot> users) {
+        GroupDto.GroupDtoBuilder builder = GroupDto.builder()
+            .id(s.getId())
+            .placeId(s.getPlaceId())
+            .placeName(s.getPlaceName())
+            .placeCategory(s.getPlaceCategory())
+            .placeAddress(null)
+            .creatorId(s.getCreatorId())
+            .dateTime(s.getDateTime())
+            .maxSize(s.getMaxSize())
+            .visibility(s.getVisibility())
+            .status(s.getStatus())
+            .genderRestriction(s.getGenderRestriction())
+            .createdAt(s.getCreatedAt())
+            .memberCount(s.getMemberCount())
+            .confirmed(userId != null && s.getConfirmedUserIds() != null && s.getConfirmedUserIds().contains(userId))
+            .confirmationEligibleCount(s.getConfirmationEligibleCount())
+            .confirmationConfirmedCount(s.getConfirmationConfirmedCount());
+
+        if (listsMembers(s.getStatus()) && s.getMemberUserIds() != null) {
+            builder.members(memberInfos(s.getMemberUserIds(), users));
+        }
+        return builder.build();
+    }
+
+    private static List<MemberInfoDto> memberInfos(List<String> userIds, Map<String, UserSnapshot> users) {
+        return userIds.stream()
+            .map(users::get)
+            .filter(Objects::nonNull)
+            .map(u -> MemberInfoDto.builder()
+                .userId(u.id())
+                .username(u.username())   // username only — never email
+                .trustScore(u.trustScore())
+                .totalTrips(u.totalTrips())
+                .build())
+            .toList();
+    }
+
     // -------------------------------------------------------------------------
     // Inner exception
     // -------------------------------------------------------------------------
@@ -0,0 +1,150 @@
+package com.app.localgroup.group.cache;
+
+import com.app.localgroup.common.cache.ExpiringCache;
+import com.app.localgroup.group.dto.GroupDto;
+import com.app.localgroup.group.event.GroupChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Built {@link GroupDto}s keyed by group id, stamped with when they were loaded.
+ *
+ * - Every GroupChangedEvent (GroupService and GroupLifecycleScheduler publish
+ *   one per mutation) takes the next value of a cache-wide change sequence,
+ *   records it as that group's last change and drops its entry
+ * - An entry is only served if its load started after the group's last
+ *   change, so a load that raced a write is never returned once the write
+ *   has been published
+ * - Last-change records are only needed while an entry or a load could
+ *   predate them; once per TTL those older than the previous checkpoint are
+ *   dropped and folded into a floor that absent groups fall back to, so the
+ *   map holds at most the groups changed in the last two TTLs
+ * - Entries are user-neutral; the caller's "confirmed" flag is applied per
+ *   read from the cached set of confirmed members
+ *
+ * A hit costs no database access, member snapshots included. Writes on other
+ * nodes, and profile changes of members, are seen once the entry expires
+ * (app.group-cache.ttl-ms).
+ */
+@Component
+public class GroupDtoCache {
+
+    /**
+     * What a loader returns: the DTO as seen by no particular user, and the
+     * ids of members who have confirmed attendance.
+     */
+    public record Loaded(GroupDto group, Set<String> confirmedUserIds) {}
+
+    private final ExpiringCache<String, Entry> entries;
+    private final long ttlMillis;
+
+    private final AtomicLong sequence = new AtomicLong();
+    // Sequence of each recently changed group's last change; absent means "at or before floor"
+    private final ConcurrentHashMap<String, Long> lastChanges = new ConcurrentHashMap<>();
+    private volatile long floor;
+    // Sequence and time of the previous prune; changes up to it are dropped at the next one
+    private long checkpoint;
+    private volatile long checkpointMillis = System.currentTimeMillis();
+
+    private final LongAdder staleReads = new LongAdder();
+
+    public GroupDtoCache(
+            @Value("${app.group-cache.size:5000}") int size,
+            @Value("${app.group-cache.ttl-ms:10000}") long ttlMillis
+    ) {
+        this.entries = new ExpiringCache<>("group-dtos", size, ttlMillis);
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * The group as seen by {@code userId} (may be null), built by
+     * {@code loader} only when no current entry exists. Exceptions from the
+     * loader (e.g. group not found) propagate and nothing is cached.
+     */
+    public GroupDto get(String groupId, String userId, Function<String, Loaded> loader) {
+        // Take the sequence before loading: a write that lands mid-load gets a
+        // later one and leaves this entry stale on arrival
+        long loadedAt = sequence.get();
+        Entry entry = entries.get(groupId);
+        if (entry != null && version(groupId) > entry.loadedAt()) {
+            staleReads.increment();
+            entry = null;
+        }
+        if (entry == null) {
+            Loaded loaded = loader.apply(groupId);
+            entry = new Entry(loadedAt, loaded.group(), Set.copyOf(loaded.confirmedUserIds()));
+            entries.put(groupId, entry);
+        }
+        return entry.group().toBuilder()
+                .confirmed(userId != null && entry.confirmedUserIds().contains(userId))
+                .build();
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onGroupChanged(GroupChangedEvent event) {
+        bump(event.groupId());
+    }
+
+    public void bump(String groupId) {
+        lastChanges.merge(groupId, sequence.incrementAndGet(), Math::max);
+        entries.invalidate(groupId);
+        pruneIfDue();
+    }
+
+    /** Sequence of the group's last change, or the floor if it has not changed recently. */
+    public long version(String groupId) {
+        return lastChanges.getOrDefault(groupId, floor);
+    }
+
+    /**
+     * Drops last-change records at or below the previous checkpoint. A load
+     * from before that checkpoint started at least a TTL ago and has normally
+     * expired; if not, the raised floor makes it stale, so pruning can only
+     * cost a spurious reload. The floor is raised before the records go, so a
+     * concurrent read always sees one or the other.
+     */
+    private void pruneIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - checkpointMillis < ttlMillis) return;
+        synchronized (this) {
+            if (now - checkpointMillis < ttlMillis) return;
+            long cutoff = checkpoint;
+            if (cutoff > floor) {
+                floor = cutoff;
+                lastChanges.values().removeIf(changed -> changed <= cutoff);
+            }
+            checkpoint = sequence.get();
+            checkpointMillis = now;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Metrics
+    // -------------------------------------------------------------------------
+
+    public ExpiringCache<String, Entry> cache() {
+        return entries;
+    }
+
+    /** Entries found but skipped because their group had changed since. */
+    public long staleReadCount() {
+        return staleReads.sum();
+    }
+
+    /** Groups whose last change is still tracked individually. */
+    public int trackedGroupCount() {
+        return lastChanges.size();
+    }
+
+    public record Entry(long loadedAt, GroupDto group, Set<String> confirmedUserIds) {}
+}
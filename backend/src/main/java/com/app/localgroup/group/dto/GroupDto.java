@@ -10,7 +10,7 @@ import java.time.Instant;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class GroupDto {
     private String id;
     private String placeId;
@@ -0,0 +1,33 @@
+package com.app.localgroup.group.event;
+
+/**
+ * Published (synchronously, after the write) whenever a group or its
+ * membership changes, by GroupService and GroupLifecycleScheduler.
+ *
+ * Listeners use it to invalidate or refresh derived state; they must not
+ * assume the event is seen by other nodes.
+ *
+ * @param userId the member a MEMBER_* change is about (creator for CREATED), else null
+ */
+public record GroupChangedEvent(String groupId, String placeId, Change change, String userId) {
+
+    public GroupChangedEvent(String groupId, String placeId, Change change) {
+        this(groupId, placeId, change, null);
+    }
+
+    public enum Change {
+        CREATED,
+        UPDATED,
+        MEMBER_JOINED,
+        MEMBER_LEFT,
+        MEMBER_CONFIRMED,
+        STATUS_CHANGED
+    }
+
+    /**
+     * Whether the place's active (public, non-expired) group count may have changed.
+     */
+    public boolean affectsPlaceGroupCount() {
+        return change == Change.CREATED || change == Change.STATUS_CHANGED;
+    }
+}
@@ -0,0 +1,69 @@
+package com.app.localgroup.group.invite;
+
+import com.app.localgroup.auth.exception.TooManyRequestsException;
+import com.app.localgroup.common.ratelimit.SlidingWindowLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Throttles failed private-join attempts.
+ *
+ * - Per user: every failed attempt counts, whatever the code type
+ * - Per group: failed guesses lock the group's legacy (BCrypt) path, so
+ *   guessing traffic cannot burn CPU on hashing; signed tokens stay usable
+ *   because checking them costs one HMAC
+ */
+@Component
+public class InviteAttemptThrottle {
+
+    private final SlidingWindowLimiter failuresPerUser;
+    private final SlidingWindowLimiter failuresPerGroup;
+
+    public InviteAttemptThrottle(
+            @Value("${app.invite.throttle.window:PT15M}") Duration window,
+            @Value("${app.invite.throttle.lockout:PT15M}") Duration lockout,
+            @Value("${app.invite.throttle.failures-per-user:10}") int failuresPerUserLimit,
+            @Value("${app.invite.throttle.failures-per-group:10}") int failuresPerGroupLimit,
+            @Value("${app.invite.throttle.max-keys:50000}") int maxKeys
+    ) {
+        this.failuresPerUser = new SlidingWindowLimiter("invite-failure-user",
+                failuresPerUserLimit, window.toMillis(), lockout.toMillis(), maxKeys);
+        this.failuresPerGroup = new SlidingWindowLimiter("invite-failure-group",
+                failuresPerGroupLimit, window.toMillis(), lockout.toMillis(), maxKeys);
+    }
+
+    public void checkUser(String userId) {
+        if (failuresPerUser.isLimited(userId)) {
+            throw new TooManyRequestsException("Too many invalid invite attempts. Please try again later",
+                    failuresPerUser.retryAfterSeconds(userId));
+        }
+    }
+
+    /**
+     * Must pass before a legacy invite code is hashed.
+     */
+    public void checkLegacyGroup(String groupId) {
+        if (failuresPerGroup.isLimited(groupId)) {
+            throw new TooManyRequestsException("Too many invalid invite attempts for this group. Please try again later",
+                    failuresPerGroup.retryAfterSeconds(groupId));
+        }
+    }
+
+    public void recordFailure(String userId, String groupId) {
+        failuresPerUser.record(userId);
+        failuresPerGroup.record(groupId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.throttle.prune-interval:PT1M}")
+    public void prune() {
+        failuresPerUser.prune();
+        failuresPerGroup.prune();
+    }
+
+    public SlidingWindowLimiter[] limiters() {
+        return new SlidingWindowLimiter[] { failuresPerUser, failuresPerGroup };
+    }
+}
@@ -0,0 +1,134 @@
+package com.app.localgroup.group.invite;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Issues and verifies signed, expiring invite tokens for private groups.
+ *
+ * Format: {@code v1.<expiresAtEpochSeconds>.<base64url HMAC-SHA256>} where the
+ * MAC covers version, group id and expiry. The group id comes from the join
+ * URL, so a token only works for the group it was issued for. Verification is
+ * one HMAC (microseconds), unlike the BCrypt match used for legacy invite codes.
+ *
+ * The key is app.invite.secret (APP_INVITE_SECRET) when set. Otherwise it is
+ * derived as HMAC-SHA256(jwtSecret, "invite-v1"), so the JWT secret itself
+ * never signs invites and an invite MAC can never pass as a JWT signature.
+ */
+@Component
+public class InviteTokenService {
+
+    public static final String TOKEN_PREFIX = "v1.";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String DERIVATION_LABEL = "invite-v1";
+    // v1.<epoch seconds>.<32-byte MAC, unpadded base64url>
+    private static final Pattern TOKEN_SHAPE = Pattern.compile("^v1\\.\\d{1,19}\\.[A-Za-z0-9_-]{43}$");
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+
+    // Mac instances are not thread-safe; one per thread avoids re-initialising per call
+    private final ThreadLocal<Mac> mac;
+
+    public InviteTokenService(
+            @Value("${app.invite.secret:}") String secret,
+            @Value("${app.jwt.secret}") String jwtSecret,
+            @Value("${app.invite.ttl:PT48H}") Duration ttl
+    ) {
+        byte[] keyBytes = secret != null && !secret.isBlank()
+                ? secret.getBytes(StandardCharsets.UTF_8)
+                : hmac(jwtSecret.getBytes(StandardCharsets.UTF_8), DERIVATION_LABEL);
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Issues a token for the group, expiring after the configured TTL or at
+     * {@code notAfter}, whichever comes first.
+     */
+    public InviteToken issue(String groupId, Instant notAfter) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        if (notAfter != null && notAfter.isBefore(expiresAt)) {
+            expiresAt = notAfter;
+        }
+        long expiresAtSeconds = expiresAt.getEpochSecond();
+        String token = TOKEN_PREFIX + expiresAtSeconds + "." + ENCODER.encodeToString(sign(groupId, expiresAtSeconds));
+        return new InviteToken(token, Instant.ofEpochSecond(expiresAtSeconds));
+    }
+
+    /**
+     * @return true if the code has the exact shape of a signed token. Anything
+     *         else, including legacy codes that merely start with "v1.", is a
+     *         legacy invite code and goes to the BCrypt match
+     */
+    public static boolean isSignedToken(String code) {
+        return code != null && TOKEN_SHAPE.matcher(code).matches();
+    }
+
+    public InviteTokenStatus verify(String groupId, String token) {
+        if (token == null || !token.startsWith(TOKEN_PREFIX)) return InviteTokenStatus.INVALID;
+
+        int dot = token.indexOf('.', TOKEN_PREFIX.length());
+        if (dot < 0) return InviteTokenStatus.INVALID;
+
+        long expiresAtSeconds;
+        byte[] presented;
+        try {
+            expiresAtSeconds = Long.parseLong(token.substring(TOKEN_PREFIX.length(), dot));
+            presented = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException ex) {
+            // NumberFormatException included
+            return InviteTokenStatus.INVALID;
+        }
+
+        // Constant-time comparison so the MAC cannot be recovered byte by byte
+        if (!MessageDigest.isEqual(sign(groupId, expiresAtSeconds), presented)) {
+            return InviteTokenStatus.INVALID;
+        }
+        return Instant.now().getEpochSecond() < expiresAtSeconds
+                ? InviteTokenStatus.VALID
+                : InviteTokenStatus.EXPIRED;
+    }
+
+    private byte[] sign(String groupId, long expiresAtSeconds) {
+        String payload = "v1|" + groupId + "|" + expiresAtSeconds;
+        return mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] hmac(byte[] secret, String label) {
+        try {
+            Mac m = Mac.getInstance(ALGORITHM);
+            m.init(new SecretKeySpec(secret, ALGORITHM));
+            return m.doFinal(label.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac m = Mac.getInstance(ALGORITHM);
+            m.init(key);
+            return m;
+        } catch (GeneralSecurityException ex) {
+            // HmacSHA256 is mandatory on every Java platform
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public record InviteToken(String token, Instant expiresAt) {}
+}
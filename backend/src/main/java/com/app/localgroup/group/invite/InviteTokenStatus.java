@@ -0,0 +1,10 @@
+package com.app.localgroup.group.invite;
+
+/**
+ * Outcome of checking a signed invite token.
+ */
+public enum InviteTokenStatus {
+    VALID,
+    INVALID,
+    EXPIRED
+}
@@ -0,0 +1,40 @@
+package com.app.localgroup.group.live;
+
+import com.app.localgroup.group.GroupService;
+import com.app.localgroup.group.event.GroupChangedEvent;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Compact group state pushed after every change, with the same counts as
+ * GroupDto. Carries no user ids, so it is safe on the shared group topic.
+ */
+public record GroupStateDelta(
+        String groupId,
+        String placeId,
+        GroupChangedEvent.Change change,
+        Group.Status status,
+        int memberCount,
+        int maxSize,
+        int confirmationEligibleCount,
+        int confirmationConfirmedCount,
+        Instant at
+) {
+
+    public static GroupStateDelta of(Group g, List<GroupMember> members, GroupChangedEvent.Change change) {
+        List<String> eligible = GroupService.confirmationEligibleUserIds(g, members);
+        return new GroupStateDelta(
+                g.getId(),
+                g.getPlaceId(),
+                change,
+                g.getStatus(),
+                members.size(),
+                g.getMaxSize(),
+                eligible.size(),
+                GroupService.confirmedEligibleCount(eligible, members),
+                Instant.now());
+    }
+}
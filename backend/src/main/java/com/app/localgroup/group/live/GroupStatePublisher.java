@@ -0,0 +1,79 @@
+package com.app.localgroup.group.live;
+
+import com.app.localgroup.group.event.GroupChangedEvent;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.repository.GroupMemberRepository;
+import com.app.localgroup.group.repository.GroupRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Pushes group state after every GroupChangedEvent, so clients can drop
+ * polling of GET /groups/{id} and /groups/me:
+ *
+ * - /topic/group/{groupId}/state   GroupStateDelta, for anyone viewing the group
+ * - /user/queue/groups             MemberGroupDelta, for each member and for
+ *                                  the user who just left or was removed
+ *
+ * Costs two indexed reads per change (group by id, members by groupId);
+ * changes are rare compared with the polls they replace. Pushing is best
+ * effort: a failure is logged and never fails the write that caused it.
+ * Only clients connected to this node are reached (simple broker).
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupStatePublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupStatePublisher.class);
+
+    public static final String USER_QUEUE = "/queue/groups";
+
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public static String stateTopic(String groupId) {
+        return "/topic/group/" + groupId + "/state";
+    }
+
+    @EventListener
+    public void onGroupChanged(GroupChangedEvent event) {
+        try {
+            publish(event);
+        } catch (RuntimeException ex) {
+            log.warn("Group state push failed for group {} ({}): {}", event.groupId(), event.change(), ex.getMessage());
+        }
+    }
+
+    private void publish(GroupChangedEvent event) {
+        Optional<Group> group = groupRepository.findById(event.groupId());
+        if (group.isEmpty()) return;
+
+        List<GroupMember> members = groupMemberRepository.findByGroupId(event.groupId());
+        GroupStateDelta delta = GroupStateDelta.of(group.get(), members, event.change());
+        messagingTemplate.convertAndSend(stateTopic(event.groupId()), delta);
+
+        Set<String> recipients = new LinkedHashSet<>();
+        for (GroupMember m : members) recipients.add(m.getUserId());
+        if (event.userId() != null) recipients.add(event.userId());
+
+        for (String userId : recipients) {
+            GroupMember membership = members.stream()
+                    .filter(m -> m.getUserId().equals(userId))
+                    .findFirst()
+                    .orElse(null);
+            messagingTemplate.convertAndSendToUser(userId, USER_QUEUE, new MemberGroupDelta(
+                    delta, membership != null, membership != null && membership.isConfirmed()));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.app.localgroup.group.live;
+
+/**
+ * Per-user push on /user/queue/groups: the group delta plus the recipient's
+ * own membership, which is what GET /groups/me would have shown them.
+ */
+public record MemberGroupDelta(GroupStateDelta group, boolean member, boolean confirmed) {}
@@ -2,6 +2,7 @@ package com.app.localgroup.group.model;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -18,6 +19,13 @@ public class Group {
     @Id
     private String id;
 
+    /**
+     * Optimistic lock: a save made from a stale copy fails instead of
+     * overwriting a concurrent change (see OptimisticRetry).
+     */
+    @Version
+    private Long version;
+
     private String placeId;
 
     private String creatorId;
@@ -46,6 +54,13 @@ public class Group {
 
     private String inviteCodeHash;
 
+    /**
+     * Seats taken, including joins whose member document is still being
+     * written: a join reserves its seat here first (GroupRepository#reserveSeat),
+     * so joins go through the same version as every other group write.
+     */
+    private int memberCount;
+
     @Builder.Default
     private List<String> confirmationEligibleUserIds = new ArrayList<>();
 
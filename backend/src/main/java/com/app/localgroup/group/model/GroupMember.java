@@ -2,6 +2,7 @@ package com.app.localgroup.group.model;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -15,6 +16,9 @@ public class GroupMember {
     @Id
     private String id;
 
+    @Version
+    private Long version;
+
     private String groupId;
 
     private String userId;
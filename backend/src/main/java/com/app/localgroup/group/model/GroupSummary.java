@@ -0,0 +1,47 @@
+package com.app.localgroup.group.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Read model for group listings: one document per group with the place and
+ * membership data GroupDto needs already denormalized.
+ *
+ * Maintained by GroupSummaryProjector from groups, group_members and places;
+ * never written anywhere else. Member profiles are not copied (they change
+ * with trust scores); listings resolve them through UserSnapshotCache.
+ */
+@Document(collection = "group_summaries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupSummary {
+    @Id
+    private String id;   // same as the group id
+
+    // Group.version the projection was read at; GroupSummaryProjector never replaces a newer one
+    private Long sourceVersion;
+
+    private String placeId;
+    private String placeName;
+    private String placeCategory;
+
+    private String creatorId;
+    private Instant dateTime;
+    private int maxSize;
+    private Group.Visibility visibility;
+    private Group.Status status;
+    private GenderRestriction genderRestriction;
+    private Instant createdAt;
+
+    private int memberCount;
+    private List<String> memberUserIds;      // distinct, in join order
+    private List<String> confirmedUserIds;
+    private int confirmationEligibleCount;
+    private int confirmationConfirmedCount;
+}
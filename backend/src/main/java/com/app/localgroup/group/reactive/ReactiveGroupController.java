@@ -0,0 +1,54 @@
+package com.app.localgroup.group.reactive;
+
+import com.app.localgroup.common.ApiResponse;
+import com.app.localgroup.common.http.HttpCachePolicy;
+import com.app.localgroup.common.http.ReadModelVersions;
+import com.app.localgroup.group.dto.GroupDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive variant of the read side of GroupController under /reactive/groups.
+ * See ReactivePlaceController for how it runs next to the servlet endpoints.
+ */
+@RestController
+@RequestMapping("/reactive/groups")
+@RequiredArgsConstructor
+public class ReactiveGroupController {
+
+    private final ReactiveGroupService reactiveGroupService;
+    private final ReadModelVersions versions;
+    private final HttpCachePolicy cachePolicy;
+
+    @GetMapping("/place/{placeId}")
+    public Mono<ResponseEntity<ApiResponse<List<GroupDto>>>> getByPlace(@PathVariable("placeId") String placeId, WebRequest request) {
+        if (request.checkNotModified(versions.groupsAtPlaceETag(placeId))) {
+            return Mono.just(HttpCachePolicy.notModified(cachePolicy.groupsByPlace()));
+        }
+        return reactiveGroupService.getGroupsByPlace(placeId)
+                .collectList()
+                .map(groups -> ResponseEntity.ok().cacheControl(cachePolicy.groupsByPlace()).body(ApiResponse.<List<GroupDto>>builder()
+                        .success(true)
+                        .data(groups)
+                        .message("OK")
+                        .build()));
+    }
+
+    @GetMapping("/{groupId}")
+    public Mono<ResponseEntity<ApiResponse<GroupDto>>> getById(@PathVariable("groupId") String groupId, Authentication auth) {
+        String userId = (String) auth.getPrincipal();
+        return reactiveGroupService.getGroupById(groupId, userId)
+                .map(g -> ResponseEntity.ok(ApiResponse.<GroupDto>builder().success(true).data(g).message("OK").build()))
+                .defaultIfEmpty(ResponseEntity.status(404)
+                        .body(ApiResponse.<GroupDto>builder().success(false).message("Group not found").build()));
+    }
+}
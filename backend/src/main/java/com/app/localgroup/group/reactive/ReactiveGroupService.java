@@ -0,0 +1,108 @@
+package com.app.localgroup.group.reactive;
+
+import com.app.localgroup.group.GroupService;
+import com.app.localgroup.group.dto.GroupDto;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.model.GroupSummary;
+import com.app.localgroup.place.model.Place;
+import com.app.localgroup.user.cache.UserSnapshot;
+import com.app.localgroup.user.cache.UserSnapshotCache;
+import com.app.localgroup.user.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of the group read queries in {@link GroupService}.
+ *
+ * Per group, the member list and the place are fetched concurrently; member
+ * snapshots follow as soon as the member ids are known (cache first, one
+ * projected $in query for the misses). The DTO itself is built by
+ * {@link GroupService#assemble}, so both paths return identical payloads.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveGroupService {
+
+    /** Groups converted concurrently when listing a place. */
+    static final int GROUP_CONCURRENCY = 8;
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final UserSnapshotCache userSnapshotCache;
+
+    /**
+     * Same group_summaries query as GroupService#getGroupsByPlace; joinable
+     * groups never list members, so no user lookups are needed.
+     */
+    public Flux<GroupDto> getGroupsByPlace(String placeId) {
+        Query query = Query.query(Criteria.where("placeId").is(placeId)
+                .and("visibility").is(Group.Visibility.PUBLIC)
+                .and("status").is(Group.Status.JOINABLE));
+        query.fields().exclude("memberUserIds", "confirmedUserIds");
+        return reactiveMongoTemplate.find(query, GroupSummary.class)
+                .map(s -> GroupService.fromSummary(s, null, Map.of()));
+    }
+
+    /**
+     * @return empty if the group does not exist
+     */
+    public Mono<GroupDto> getGroupById(String groupId, String userId) {
+        return reactiveMongoTemplate.findById(groupId, Group.class)
+                .flatMap(g -> toDto(g, userId));
+    }
+
+    public Mono<GroupDto> toDto(Group g, String userId) {
+        Mono<List<GroupMember>> members = reactiveMongoTemplate
+                .find(Query.query(Criteria.where("groupId").is(g.getId())), GroupMember.class)
+                .collectList()
+                .cache();
+
+        Mono<Optional<Place>> place = g.getPlaceId() == null
+                ? Mono.just(Optional.empty())
+                : reactiveMongoTemplate.findById(g.getPlaceId(), Place.class)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty());
+
+        Mono<Map<String, UserSnapshot>> users = GroupService.listsMembers(g)
+                ? members.flatMap(this::snapshots)
+                : Mono.just(Map.of());
+
+        return Mono.zip(members, place, users)
+                .map(t -> GroupService.assemble(g, userId, t.getT1(), t.getT2().orElse(null), t.getT3()));
+    }
+
+    private Mono<Map<String, UserSnapshot>> snapshots(List<GroupMember> members) {
+        List<String> ids = members.stream().map(GroupMember::getUserId).distinct().toList();
+        Map<String, UserSnapshot> cached = userSnapshotCache.getCached(ids);
+        if (cached.size() == ids.size()) return Mono.just(cached);
+
+        List<String> missing = new ArrayList<>(ids);
+        missing.removeAll(cached.keySet());
+
+        // Same projection as UserRepository#findSnapshotsByIdIn
+        Query query = Query.query(Criteria.where("_id").in(missing));
+        query.fields().include("username", "age", "gender", "trustScore", "totalTrips");
+
+        return reactiveMongoTemplate.find(query, User.class)
+                .collectList()
+                .map(loaded -> {
+                    Map<String, UserSnapshot> found = new LinkedHashMap<>(cached);
+                    for (User user : loaded) {
+                        userSnapshotCache.put(user);
+                        found.put(user.getId(), UserSnapshot.from(user));
+                    }
+                    return found;
+                });
+    }
+}
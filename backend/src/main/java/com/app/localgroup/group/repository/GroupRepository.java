@@ -2,6 +2,8 @@ package com.app.localgroup.group.repository;
 
 import com.app.localgroup.group.model.Group;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +13,33 @@ public interface GroupRepository extends MongoRepository<Group, String> {
     List<Group> findByCreatorIdAndStatusNot(String creatorId, Group.Status status);
     long countByCreatorIdAndStatusNot(String creatorId, Group.Status status);
     List<Group> findByPlaceId(String placeId);
+
+    /**
+     * Takes a seat if the group is JOINABLE and below maxSize, in one atomic
+     * update. Also bumps the version, so updates and transitions saved from an
+     * older copy conflict with the join.
+     *
+     * @return 1 if a seat was taken, 0 if the group is missing, not joinable or full
+     */
+    @Query("{ '_id': ?0, 'status': 'JOINABLE', '$expr': { '$lt': ['$memberCount', '$maxSize'] } }")
+    @Update("{ '$inc': { 'memberCount': 1, 'version': 1 } }")
+    long reserveSeat(String groupId);
+
+    /**
+     * Gives a seat back after a member document was deleted (or a reserved
+     * join failed to insert its member). Bumps the version like reserveSeat.
+     */
+    @Query("{ '_id': ?0, 'memberCount': { '$gt': 0 } }")
+    @Update("{ '$inc': { 'memberCount': -1, 'version': 1 } }")
+    long releaseSeat(String groupId);
+
+    /**
+     * Bumps the version after a member write that took or gave back no seat
+     * (a confirmation, a join's insert). Every member write is followed by a
+     * version bump, so a summary projected from a given version has seen all
+     * member writes that came before it (see GroupSummaryProjector#refresh).
+     */
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$inc': { 'version': 1 } }")
+    long touch(String groupId);
 }
@@ -0,0 +1,25 @@
+package com.app.localgroup.group.repository;
+
+import com.app.localgroup.group.model.GroupSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GroupSummaryRepository extends MongoRepository<GroupSummary, String> {
+
+    /**
+     * Public joinable groups at a place. Uses the (placeId, visibility, status)
+     * index; member id lists are left out, a joinable listing never shows them.
+     */
+    @Query(value = "{ 'placeId': ?0, 'visibility': 'PUBLIC', 'status': 'JOINABLE' }",
+           fields = "{ 'memberUserIds': 0, 'confirmedUserIds': 0 }")
+    List<GroupSummary> findJoinableByPlaceId(String placeId);
+
+    /**
+     * Groups the user is a member of, via the multikey memberUserIds index.
+     */
+    List<GroupSummary> findByMemberUserIds(String userId);
+}
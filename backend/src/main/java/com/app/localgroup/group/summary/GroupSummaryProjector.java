@@ -0,0 +1,275 @@
+package com.app.localgroup.group.summary;
+
+import com.app.localgroup.group.GroupService;
+import com.app.localgroup.group.event.GroupChangedEvent;
+import com.app.localgroup.group.model.GenderRestriction;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.model.GroupSummary;
+import com.app.localgroup.group.repository.GroupMemberRepository;
+import com.app.localgroup.group.repository.GroupRepository;
+import com.app.localgroup.group.repository.GroupSummaryRepository;
+import com.app.localgroup.metrics.MetricsRegistry;
+import com.app.localgroup.place.event.PlaceChangedEvent;
+import com.app.localgroup.place.model.Place;
+import com.app.localgroup.place.repository.PlaceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps group_summaries in step with groups, group_members and places.
+ *
+ * - Every GroupChangedEvent re-projects that one group (three indexed reads,
+ *   one upsert). It runs before other listeners, so ETags and pushes that
+ *   follow a change never describe an older summary.
+ * - Summaries carry the Group.version they were projected from, and a write
+ *   never replaces a summary from a newer version, so concurrent refreshes
+ *   cannot leave an older projection behind.
+ * - PlaceChangedEvent rewrites the place fields of that place's summaries.
+ * - {@link #reconcile()} recomputes every summary from the source collections
+ *   in batches, re-projects any that differ and removes orphans. It runs
+ *   shortly after startup (which also builds the collection the first time)
+ *   and then every app.group-summaries.verify-interval, catching writes whose
+ *   projection failed or that bypassed the services.
+ *
+ * A failed projection is logged and left to the next reconcile; it never
+ * fails the write that caused it.
+ */
+@Component
+public class GroupSummaryProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupSummaryProjector.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final PlaceRepository placeRepository;
+    private final GroupSummaryRepository summaryRepository;
+    private final MongoTemplate mongoTemplate;
+    private final AtomicLong lastRepaired;
+    private final AtomicLong staleWrites;
+
+    public GroupSummaryProjector(
+            GroupRepository groupRepository,
+            GroupMemberRepository groupMemberRepository,
+            PlaceRepository placeRepository,
+            GroupSummaryRepository summaryRepository,
+            MongoTemplate mongoTemplate,
+            MetricsRegistry metrics
+    ) {
+        this.groupRepository = groupRepository;
+        this.groupMemberRepository = groupMemberRepository;
+        this.placeRepository = placeRepository;
+        this.summaryRepository = summaryRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.lastRepaired = metrics.gauge("read-model", "group-summaries.repaired");
+        this.staleWrites = metrics.gauge("read-model", "group-summaries.staleWritesSkipped");
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onGroupChanged(GroupChangedEvent event) {
+        try {
+            refresh(event.groupId());
+        } catch (RuntimeException ex) {
+            log.warn("Group summary projection failed for group {} ({}): {}",
+                    event.groupId(), event.change(), ex.getMessage());
+        }
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        try {
+            placeRepository.findById(event.placeId()).ifPresent(place -> mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("placeId").is(place.getId())),
+                    new Update().set("placeName", place.getName()).set("placeCategory", categoryOf(place)),
+                    GroupSummary.class));
+        } catch (RuntimeException ex) {
+            log.warn("Group summary place update failed for place {}: {}", event.placeId(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Re-projects one group. The group is read first and its members after:
+     * every member write is followed by a version bump (GroupService), so a
+     * projection from version v has seen every member write bumped at or
+     * before v. Writes at a lower version than the stored summary are dropped;
+     * an equal version may replace it (reconcile repairs at the same version).
+     */
+    public void refresh(String groupId) {
+        Optional<Group> group = groupRepository.findById(groupId);
+        if (group.isEmpty()) {
+            summaryRepository.deleteById(groupId);
+            return;
+        }
+        Group g = group.get();
+        List<GroupMember> members = groupMemberRepository.findByGroupId(groupId);
+        Place place = g.getPlaceId() != null ? placeRepository.findById(g.getPlaceId()).orElse(null) : null;
+        store(project(g, members, place));
+    }
+
+    private void store(GroupSummary summary) {
+        Criteria target = Criteria.where("id").is(summary.getId());
+        if (summary.getSourceVersion() != null) {
+            target = target.orOperator(
+                    Criteria.where("sourceVersion").lte(summary.getSourceVersion()),
+                    Criteria.where("sourceVersion").is(null));
+        }
+        try {
+            mongoTemplate.findAndReplace(Query.query(target), summary, FindAndReplaceOptions.options().upsert());
+        } catch (DuplicateKeyException ex) {
+            // A summary from a newer group version is stored: the filter missed it and the upsert hit its id
+            staleWrites.incrementAndGet();
+            log.debug("Skipped stale summary of group {} at version {}", summary.getId(), summary.getSourceVersion());
+        }
+    }
+
+    public record Report(int checked, int repaired, int removed) {}
+
+    @Scheduled(initialDelayString = "PT5S", fixedDelayString = "${app.group-summaries.verify-interval:PT1H}")
+    public void verify() {
+        reconcile();
+    }
+
+    /**
+     * Verifies every summary against a fresh projection and repairs the
+     * differences.
+     *
+     * Groups, then summaries, are walked in id order in batches of
+     * {@value #BATCH_SIZE}, so memory stays bounded. A batch's members,
+     * places and summaries are read with one $in query each. Those reads
+     * are not atomic with the writes that events keep making, so a mismatch
+     * is only a candidate: it is re-projected with {@link #refresh(String)},
+     * which re-reads the sources, and never overwritten with the batch's
+     * possibly older snapshot.
+     */
+    public Report reconcile() {
+        long start = System.currentTimeMillis();
+        try {
+            int checked = 0;
+            int repaired = 0;
+            int removed = 0;
+
+            List<Group> groups = nextBatch(Group.class, null);
+            while (!groups.isEmpty()) {
+                checked += groups.size();
+                repaired += repairBatch(groups);
+                groups = nextBatch(Group.class, groups.get(groups.size() - 1).getId());
+            }
+
+            // Summaries whose group is gone (deleted, or written behind the services' back)
+            List<GroupSummary> summaries = nextBatch(GroupSummary.class, null);
+            while (!summaries.isEmpty()) {
+                List<String> ids = summaries.stream().map(GroupSummary::getId).toList();
+                Set<String> existing = new HashSet<>();
+                groupRepository.findAllById(ids).forEach(g -> existing.add(g.getId()));
+                for (String id : ids) {
+                    if (existing.contains(id)) continue;
+                    refresh(id);
+                    removed++;
+                }
+                summaries = nextBatch(GroupSummary.class, ids.get(ids.size() - 1));
+            }
+
+            Report report = new Report(checked, repaired, removed);
+            lastRepaired.set(report.repaired() + report.removed());
+            if (report.repaired() > 0 || report.removed() > 0) {
+                log.warn("Group summaries reconciled: {} checked, {} repaired, {} orphans removed in {} ms",
+                        report.checked(), report.repaired(), report.removed(), System.currentTimeMillis() - start);
+            } else {
+                log.info("Group summaries verified: {} checked in {} ms", checked, System.currentTimeMillis() - start);
+            }
+            return report;
+        } catch (Exception ex) {
+            log.warn("Group summary reconcile failed, will retry next interval: {}", ex.getMessage());
+            return new Report(0, 0, 0);
+        }
+    }
+
+    private int repairBatch(List<Group> groups) {
+        List<String> ids = groups.stream().map(Group::getId).toList();
+
+        Map<String, List<GroupMember>> membersByGroup = new HashMap<>();
+        for (GroupMember m : groupMemberRepository.findByGroupIdIn(ids)) {
+            membersByGroup.computeIfAbsent(m.getGroupId(), id -> new ArrayList<>()).add(m);
+        }
+        Map<String, Place> places = new HashMap<>();
+        placeRepository.findAllById(groups.stream().map(Group::getPlaceId).filter(Objects::nonNull).distinct().toList())
+                .forEach(p -> places.put(p.getId(), p));
+        Map<String, GroupSummary> stored = new HashMap<>();
+        summaryRepository.findAllById(ids).forEach(s -> stored.put(s.getId(), s));
+
+        int repaired = 0;
+        for (Group g : groups) {
+            Place place = g.getPlaceId() != null ? places.get(g.getPlaceId()) : null;
+            GroupSummary expected = project(g, membersByGroup.getOrDefault(g.getId(), List.of()), place);
+            if (!expected.equals(stored.get(g.getId()))) {
+                refresh(g.getId());
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    private <T> List<T> nextBatch(Class<T> type, String afterId) {
+        Query query = afterId == null ? new Query() : Query.query(Criteria.where("id").gt(afterId));
+        return mongoTemplate.find(query.with(Sort.by("id")).limit(BATCH_SIZE), type);
+    }
+
+    /**
+     * Same rules as GroupService#assemble, minus anything user-specific.
+     *
+     * @param place the group's place, or null if it has none / was not found
+     */
+    public static GroupSummary project(Group g, List<GroupMember> members, Place place) {
+        List<String> eligible = GroupService.confirmationEligibleUserIds(g, members);
+        return GroupSummary.builder()
+                .id(g.getId())
+                .sourceVersion(g.getVersion())
+                .placeId(g.getPlaceId())
+                .placeName(place != null ? place.getName() : null)
+                .placeCategory(place != null ? categoryOf(place) : null)
+                .creatorId(g.getCreatorId())
+                .dateTime(g.getDateTime())
+                .maxSize(g.getMaxSize())
+                .visibility(g.getVisibility())
+                .status(g.getStatus())
+                .genderRestriction(g.getGenderRestriction() != null
+                        ? g.getGenderRestriction() : GenderRestriction.EVERYONE)
+                .createdAt(g.getCreatedAt())
+                .memberCount(members.size())
+                .memberUserIds(members.stream().map(GroupMember::getUserId).distinct().toList())
+                .confirmedUserIds(members.stream().filter(GroupMember::isConfirmed)
+                        .map(GroupMember::getUserId).distinct().toList())
+                .confirmationEligibleCount(eligible.size())
+                .confirmationConfirmedCount(GroupService.confirmedEligibleCount(eligible, members))
+                .build();
+    }
+
+    private static String categoryOf(Place place) {
+        return place.getCategory() != null ? place.getCategory().name() : null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.app.localgroup.leaderboard;
+
+import com.app.localgroup.common.ApiResponse;
+import com.app.localgroup.leaderboard.dto.LeaderboardEntryDto;
+import com.app.localgroup.user.cache.UserSnapshot;
+import com.app.localgroup.user.cache.UserSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private static final int MAX_TOP = 100;
+
+    private final TrustLeaderboard leaderboard;
+    private final UserSnapshotCache userSnapshotCache;
+
+    /**
+     * GET /leaderboard/top?limit=10
+     * Highest trust scores first (at most 100 rows).
+     */
+    @GetMapping("/top")
+    public ResponseEntity<ApiResponse<List<LeaderboardEntryDto>>> top(
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<TrustLeaderboard.Entry> entries = leaderboard.top(Math.max(1, Math.min(limit, MAX_TOP)));
+
+        // Usernames for the whole page in one batched lookup
+        Map<String, UserSnapshot> users = userSnapshotCache.getAll(
+                entries.stream().map(TrustLeaderboard.Entry::userId).toList());
+
+        List<LeaderboardEntryDto> rows = entries.stream()
+                .map(e -> toDto(e, users.get(e.userId())))
+                .toList();
+        return ResponseEntity.ok(ApiResponse.<List<LeaderboardEntryDto>>builder()
+                .success(true).data(rows).message("OK").build());
+    }
+
+    /**
+     * GET /leaderboard/me
+     * The caller's rank; 404 until their profile is complete.
+     */
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<LeaderboardEntryDto>> me(Authentication auth) {
+        String userId = (String) auth.getPrincipal();
+        return leaderboard.rankOf(userId)
+                .map(e -> ResponseEntity.ok(ApiResponse.<LeaderboardEntryDto>builder()
+                        .success(true)
+                        .data(toDto(e, userSnapshotCache.get(userId).orElse(null)))
+                        .message("OK").build()))
+                .orElseGet(() -> ResponseEntity.status(404)
+                        .body(ApiResponse.<LeaderboardEntryDto>builder()
+                                .success(false).message("Not ranked yet").build()));
+    }
+
+    private static LeaderboardEntryDto toDto(TrustLeaderboard.Entry entry, UserSnapshot user) {
+        return LeaderboardEntryDto.builder()
+                .rank(entry.rank())
+                .userId(entry.userId())
+                .username(user != null ? user.username() : null)
+                .trustScore(entry.score())
+                .build();
+    }
+}
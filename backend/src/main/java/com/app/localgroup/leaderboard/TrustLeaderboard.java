@@ -0,0 +1,229 @@
+package com.app.localgroup.leaderboard;
+
+import com.app.localgroup.user.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory trust-score leaderboard for users with a completed profile.
+ *
+ * - A Fenwick tree over score buckets counts users per score, so "my rank"
+ *   (1 + users with a strictly higher score) is O(log range)
+ * - A score-ordered TreeMap of user sets serves top-K in O(log n + K)
+ * - Scores outside [min-score, max-score] share the edge bucket for rank
+ *   counting; top-K ordering always uses the exact score
+ *
+ * Kept current by {@link #update} (scheduler score changes and profile
+ * completion) and rebuilt from an indexed query on startup and every
+ * app.leaderboard.rebuild-interval, which also picks up other nodes' writes.
+ * Updates that arrive while a rebuild is reading Mongo are replayed onto the
+ * rebuilt board, so the swap never reverts them to the older value it read.
+ */
+@Component
+public class TrustLeaderboard {
+
+    private static final Logger log = LoggerFactory.getLogger(TrustLeaderboard.class);
+
+    public record Entry(String userId, int score, int rank) {}
+
+    private final MongoTemplate mongoTemplate;
+    private final int minScore;
+    private final int maxScore;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> scores = new HashMap<>();
+    private final TreeMap<Integer, Set<String>> byScore = new TreeMap<>();
+    private int[] tree;
+
+    // Latest score of users updated while a rebuild is reading Mongo, replayed onto the rebuilt board
+    private final Map<String, Integer> updatedDuringRebuild = new HashMap<>();
+    private boolean rebuilding;
+
+    public TrustLeaderboard(
+            MongoTemplate mongoTemplate,
+            @Value("${app.leaderboard.min-score:-1000}") int minScore,
+            @Value("${app.leaderboard.max-score:10000}") int maxScore
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.minScore = minScore;
+        this.maxScore = maxScore;
+        this.tree = new int[maxScore - minScore + 2];
+    }
+
+    /**
+     * Sets a user's current score (inserting them if absent).
+     */
+    public void update(String userId, int score) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) updatedDuringRebuild.put(userId, score);
+            set(userId, score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the user's rank (ties share a rank), or empty if not on the board
+     */
+    public Optional<Entry> rankOf(String userId) {
+        lock.readLock().lock();
+        try {
+            Integer score = scores.get(userId);
+            return score == null ? Optional.empty() : Optional.of(new Entry(userId, score, rankOfScore(score)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the k highest-scoring users, best first (ties ordered by user id)
+     */
+    public List<Entry> top(int k) {
+        lock.readLock().lock();
+        try {
+            List<Entry> result = new ArrayList<>(Math.min(k, scores.size()));
+            int ahead = 0;   // exact rank from the walk, even outside the bucket range
+            for (Map.Entry<Integer, Set<String>> level : byScore.descendingMap().entrySet()) {
+                int rank = ahead + 1;
+                for (String userId : level.getValue()) {
+                    if (result.size() >= k) return result;
+                    result.add(new Entry(userId, level.getKey(), rank));
+                }
+                ahead += level.getValue().size();
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reloads every ranked user from Mongo, reading only trustScore. The scan
+     * walks the (trustScore, username) index created in MongoConfig.
+     */
+    @Scheduled(initialDelayString = "PT5S", fixedDelayString = "${app.leaderboard.rebuild-interval:PT30M}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Query query = Query.query(Criteria.where("trustScore").exists(true).and("username").ne(null))
+                .with(Sort.by(Sort.Direction.DESC, "trustScore"));
+        query.fields().include("trustScore");
+
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            updatedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, Integer> loaded = new HashMap<>();
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            users.forEach(u -> loaded.put(u.getId(), u.getTrustScore()));
+        } catch (Exception ex) {
+            log.warn("Leaderboard rebuild failed, keeping previous board: {}", ex.getMessage());
+            finishRebuild();
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            scores.clear();
+            byScore.clear();
+            tree = new int[maxScore - minScore + 2];
+            loaded.forEach((userId, score) -> {
+                scores.put(userId, score);
+                insert(userId, score);
+            });
+            // The read may predate these; the values from update() are newer
+            updatedDuringRebuild.forEach(this::set);
+            finishRebuild();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Leaderboard rebuilt: {} users in {} ms", loaded.size(), System.currentTimeMillis() - start);
+    }
+
+    private void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = false;
+            updatedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals (callers hold the lock)
+    // -------------------------------------------------------------------------
+
+    private void set(String userId, int score) {
+        Integer previous = scores.put(userId, score);
+        if (previous != null) {
+            if (previous == score) return;
+            remove(userId, previous);
+        }
+        insert(userId, score);
+    }
+
+    private void insert(String userId, int score) {
+        byScore.computeIfAbsent(score, s -> new TreeSet<>()).add(userId);
+        add(bucket(score), 1);
+    }
+
+    private void remove(String userId, int score) {
+        Set<String> level = byScore.get(score);
+        if (level != null) {
+            level.remove(userId);
+            if (level.isEmpty()) byScore.remove(score);
+        }
+        add(bucket(score), -1);
+    }
+
+    private int rankOfScore(int score) {
+        return scores.size() - prefix(bucket(score)) + 1;
+    }
+
+    private int bucket(int score) {
+        return Math.max(minScore, Math.min(maxScore, score)) - minScore + 1;
+    }
+
+    private void add(int i, int delta) {
+        for (; i < tree.length; i += i & -i) tree[i] += delta;
+    }
+
+    private int prefix(int i) {
+        int sum = 0;
+        for (; i > 0; i -= i & -i) sum += tree[i];
+        return sum;
+    }
+}
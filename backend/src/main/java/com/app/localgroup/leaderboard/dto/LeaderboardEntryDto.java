@@ -0,0 +1,16 @@
+package com.app.localgroup.leaderboard.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One leaderboard row. Public data only (same exposure as PublicUserDto).
+ */
+@Data
+@Builder
+public class LeaderboardEntryDto {
+    private int rank;            // ties share a rank
+    private String userId;
+    private String username;
+    private int trustScore;
+}
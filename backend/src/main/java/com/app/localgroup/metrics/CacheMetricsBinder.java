@@ -0,0 +1,58 @@
+package com.app.localgroup.metrics;
+
+import com.app.localgroup.auth.otp.InMemoryOtpStore;
+import com.app.localgroup.auth.otp.OtpThrottle;
+import com.app.localgroup.common.ratelimit.SlidingWindowLimiter;
+import com.app.localgroup.config.jwt.JwtUtil;
+import com.app.localgroup.group.cache.GroupDtoCache;
+import com.app.localgroup.group.invite.InviteAttemptThrottle;
+import com.app.localgroup.leaderboard.TrustLeaderboard;
+import com.app.localgroup.user.UsernameIndex;
+import com.app.localgroup.user.block.BlockListCache;
+import com.app.localgroup.user.cache.UserSnapshotCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the counters that caches, limiters and in-memory indexes already
+ * keep. Nothing is copied on their hot paths; values are read at snapshot time.
+ */
+@Component
+public class CacheMetricsBinder {
+
+    public CacheMetricsBinder(
+            MetricsRegistry registry,
+            JwtUtil jwtUtil,
+            UserSnapshotCache userSnapshotCache,
+            GroupDtoCache groupDtoCache,
+            BlockListCache blockListCache,
+            OtpThrottle otpThrottle,
+            InviteAttemptThrottle inviteAttemptThrottle,
+            UsernameIndex usernameIndex,
+            TrustLeaderboard trustLeaderboard,
+            ObjectProvider<InMemoryOtpStore> inMemoryOtpStore
+    ) {
+        registry.registerCache(jwtUtil.verifiedTokenCache());
+        registry.registerCache(userSnapshotCache.cache());
+        registry.registerCache(blockListCache.cache());
+        registry.registerCache(groupDtoCache.cache());
+
+        for (SlidingWindowLimiter limiter : otpThrottle.limiters()) registry.registerLimiter(limiter);
+        for (SlidingWindowLimiter limiter : inviteAttemptThrottle.limiters()) registry.registerLimiter(limiter);
+
+        registry.gauge("user-snapshots", "loads", userSnapshotCache::loadCount);
+        registry.gauge("user-snapshots", "requestMemoHits", userSnapshotCache::requestHitCount);
+        registry.gauge("group-dtos", "staleReads", groupDtoCache::staleReadCount);
+        registry.gauge("group-dtos", "trackedGroups", groupDtoCache::trackedGroupCount);
+        registry.gauge("indexes", "usernames", usernameIndex::size);
+        registry.gauge("indexes", "leaderboard", trustLeaderboard::size);
+
+        // Only present with app.otp.store=memory (the default); the Mongo store expires codes by TTL index
+        inMemoryOtpStore.ifAvailable(otpStore -> {
+            registry.gauge("otp-store", "size", otpStore::size);
+            registry.gauge("otp-store", "expired", otpStore::expiredCount);
+            registry.gauge("otp-store", "evicted", otpStore::evictedCount);
+            registry.gauge("otp-store", "burned", otpStore::burnedCount);
+        });
+    }
+}
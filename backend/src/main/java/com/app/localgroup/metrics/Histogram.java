@@ -0,0 +1,104 @@
+package com.app.localgroup.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of non-negative values (HDR-style).
+ *
+ * Each power-of-two range is split into 16 linear sub-buckets, so any
+ * recorded value is reported within ~6% of its true value, up to 2^40.
+ * Recording is two atomic increments and a max update: no allocation, no
+ * locks. Percentiles are computed on read by walking the bucket array.
+ *
+ * Timers record microseconds ({@link #recordNanos(long)}); other uses
+ * (e.g. calls per request) record raw values with {@link #record(long)}.
+ */
+public final class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray((MAX_MAGNITUDE + 1) * SUB_BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        record(nanos / 1_000);
+    }
+
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(indexOf(v));
+        total.increment();
+        sum.add(v);
+        if (v > max.get()) max.accumulateAndGet(v, Math::max);
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        long n = total.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    public long percentile(double percentile) {
+        long n = 0;
+        for (int i = 0; i < counts.length(); i++) n += counts.get(i);
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return Math.min(valueOf(i), max.get());
+        }
+        return max.get();
+    }
+
+    /**
+     * count, mean, p50, p90, p99, p99.9 and max, in insertion order for JSON output.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> s = new LinkedHashMap<>();
+        s.put("count", count());
+        s.put("mean", Math.round(mean() * 10) / 10.0);
+        s.put("p50", percentile(50));
+        s.put("p90", percentile(90));
+        s.put("p99", percentile(99));
+        s.put("p999", percentile(99.9));
+        s.put("max", max());
+        return s;
+    }
+
+    public String summary(String unit) {
+        return String.format("n=%d p50=%d%s p90=%d%s p99=%d%s p99.9=%d%s max=%d%s",
+                count(), percentile(50), unit, percentile(90), unit, percentile(99), unit,
+                percentile(99.9), unit, max(), unit);
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int magnitude = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_MAGNITUDE);
+        int sub = (int) ((value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return ((magnitude - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) | sub;
+    }
+
+    private static long valueOf(int index) {
+        int bucket = index >>> SUB_BUCKET_BITS;
+        int sub = index & (SUB_BUCKETS - 1);
+        if (bucket == 0) return sub;
+        int magnitude = bucket + SUB_BUCKET_BITS - 1;
+        return (1L << magnitude) | ((long) sub << (magnitude - SUB_BUCKET_BITS));
+    }
+}
@@ -0,0 +1,43 @@
+package com.app.localgroup.metrics;
+
+import com.app.localgroup.auth.exception.UnauthorizedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+/**
+ * Metrics snapshot for operators. Disabled (404) unless app.metrics.token
+ * is set; callers pass it in the X-Metrics-Token header.
+ */
+@RestController
+public class MetricsController {
+
+    static final String TOKEN_HEADER = "X-Metrics-Token";
+
+    private final MetricsRegistry registry;
+    private final byte[] token;
+
+    public MetricsController(MetricsRegistry registry, @Value("${app.metrics.token:}") String token) {
+        this.registry = registry;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> metrics(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String presented
+    ) {
+        if (token.length == 0) {
+            return ResponseEntity.notFound().build();
+        }
+        if (presented == null || !MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            throw new UnauthorizedException("Invalid metrics token");
+        }
+        return ResponseEntity.ok(registry.snapshot());
+    }
+}
@@ -0,0 +1,121 @@
+package com.app.localgroup.metrics;
+
+import com.app.localgroup.common.cache.ExpiringCache;
+import com.app.localgroup.common.ratelimit.SlidingWindowLimiter;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process metrics: histograms and gauges grouped by section
+ * ("http", "stomp", "repository", "scheduler", ...), plus the caches and
+ * rate limiters that already keep their own counters.
+ *
+ * Lookups by name happen once per metric; recording code keeps the returned
+ * {@link Histogram} or {@link AtomicLong} (or caches it per handler), so the
+ * recording path never allocates. Everything is read only when
+ * {@link #snapshot()} is called by the metrics endpoint.
+ */
+@Component
+public class MetricsRegistry {
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Histogram>> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, LongSupplier>> gauges = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<ExpiringCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+    private final CopyOnWriteArrayList<SlidingWindowLimiter> limiters = new CopyOnWriteArrayList<>();
+
+    public Histogram histogram(String section, String name) {
+        return histograms.computeIfAbsent(section, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, n -> new Histogram());
+    }
+
+    /**
+     * Settable gauge, e.g. the backlog seen by the last scheduler tick.
+     */
+    public AtomicLong gauge(String section, String name) {
+        AtomicLong value = new AtomicLong();
+        LongSupplier existing = gauges.computeIfAbsent(section, s -> new ConcurrentHashMap<>())
+                .putIfAbsent(name, new AtomicLongGauge(value));
+        return existing instanceof AtomicLongGauge g ? g.value() : value;
+    }
+
+    /**
+     * Gauge read from its owner at snapshot time (sizes, counters kept elsewhere).
+     */
+    public void gauge(String section, String name, LongSupplier supplier) {
+        gauges.computeIfAbsent(section, s -> new ConcurrentHashMap<>()).put(name, supplier);
+    }
+
+    public void registerCache(ExpiringCache<?, ?> cache) {
+        caches.addIfAbsent(cache);
+    }
+
+    public void registerLimiter(SlidingWindowLimiter limiter) {
+        limiters.addIfAbsent(limiter);
+    }
+
+    // -------------------------------------------------------------------------
+    // Snapshot
+    // -------------------------------------------------------------------------
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("latencyUnit", "microseconds");
+
+        for (Map.Entry<String, ConcurrentHashMap<String, Histogram>> section : new TreeMap<>(histograms).entrySet()) {
+            Map<String, Object> entries = new TreeMap<>();
+            section.getValue().forEach((name, h) -> entries.put(name, h.snapshot()));
+            out.put(section.getKey(), entries);
+        }
+
+        for (Map.Entry<String, ConcurrentHashMap<String, LongSupplier>> section : new TreeMap<>(gauges).entrySet()) {
+            Map<String, Object> entries = new TreeMap<>();
+            section.getValue().forEach((name, g) -> entries.put(name, g.getAsLong()));
+            out.merge(section.getKey(), entries, (existing, added) -> {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> merged = new TreeMap<>((Map<String, Object>) existing);
+                merged.putAll(entries);
+                return merged;
+            });
+        }
+
+        Map<String, Object> cacheStats = new TreeMap<>();
+        for (ExpiringCache<?, ?> cache : caches) {
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("size", cache.size());
+            s.put("maxEntries", cache.maxEntries());
+            s.put("hits", cache.hits());
+            s.put("misses", cache.misses());
+            s.put("evictions", cache.evictions());
+            s.put("hitRatio", Math.round(cache.hitRatio() * 1000) / 1000.0);
+            cacheStats.put(cache.name(), s);
+        }
+        out.put("caches", cacheStats);
+
+        Map<String, Object> limiterStats = new TreeMap<>();
+        for (SlidingWindowLimiter limiter : limiters) {
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("trackedKeys", limiter.trackedKeys());
+            s.put("rejected", limiter.rejectedCount());
+            s.put("lockouts", limiter.lockCount());
+            s.put("overflowed", limiter.overflowCount());
+            limiterStats.put(limiter.name(), s);
+        }
+        out.put("limiters", limiterStats);
+
+        return out;
+    }
+
+    private record AtomicLongGauge(AtomicLong value) implements LongSupplier {
+        @Override
+        public long getAsLong() {
+            return value.get();
+        }
+    }
+}
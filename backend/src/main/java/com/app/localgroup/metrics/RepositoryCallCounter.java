@@ -0,0 +1,21 @@
+package com.app.localgroup.metrics;
+
+/**
+ * Running count of repository calls made by the current thread, so request
+ * and message metrics can record calls per unit of work as a difference.
+ * A plain long[] per thread: incrementing it allocates nothing.
+ */
+final class RepositoryCallCounter {
+
+    private static final ThreadLocal<long[]> CALLS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private RepositoryCallCounter() {}
+
+    static void increment() {
+        CALLS.get()[0]++;
+    }
+
+    static long current() {
+        return CALLS.get()[0];
+    }
+}
@@ -0,0 +1,72 @@
+package com.app.localgroup.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adds a timing advice to every Spring Data repository proxy, recorded as
+ * {@code repository / <Repository>.<method>} (count and latency), and bumps
+ * the per-thread call counter used for calls-per-request.
+ *
+ * Hooks the repository factories rather than wrapping the finished beans,
+ * so injection points and repository types are unchanged.
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    static final String SECTION = "repository";
+
+    // Resolved lazily: this post-processor is created before ordinary beans
+    private final ObjectProvider<MetricsRegistry> registry;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MetricsRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory ->
+                    factory.addRepositoryProxyPostProcessor((proxyFactory, info) ->
+                            proxyFactory.addAdvice(new TimingInterceptor(
+                                    registry.getObject(), info.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private static final class TimingInterceptor implements MethodInterceptor {
+
+        private final MetricsRegistry registry;
+        private final String repositoryName;
+        private final ConcurrentHashMap<Method, Histogram> timers = new ConcurrentHashMap<>();
+
+        TimingInterceptor(MetricsRegistry registry, String repositoryName) {
+            this.registry = registry;
+            this.repositoryName = repositoryName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            Histogram timer = timers.get(method);
+            if (timer == null) {
+                timer = timers.computeIfAbsent(method,
+                        m -> registry.histogram(SECTION, repositoryName + "." + m.getName()));
+            }
+            RepositoryCallCounter.increment();
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                timer.recordNanos(System.nanoTime() - start);
+            }
+        }
+    }
+}
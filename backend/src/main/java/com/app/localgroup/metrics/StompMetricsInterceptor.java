@@ -0,0 +1,80 @@
+package com.app.localgroup.metrics;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.handler.invocation.AbstractMethodMessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times inbound STOMP messages while the @MessageMapping handler runs on the
+ * inbound executor, per destination pattern, e.g.
+ * {@code /app/chat.send/{id}}. Broker and user-destination handlers that see
+ * the same message are not timed.
+ *
+ * Concrete destinations map to their histogram through a bounded cache, so
+ * steady traffic costs one lookup per message; the pattern string is only
+ * built the first time a destination is seen.
+ */
+@Component
+public class StompMetricsInterceptor implements ExecutorChannelInterceptor {
+
+    static final String SECTION = "stomp";
+    private static final int MAX_CACHED_DESTINATIONS = 4096;
+
+    private static final ThreadLocal<long[]> START = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final MetricsRegistry registry;
+    private final ConcurrentHashMap<String, Histogram> byDestination = new ConcurrentHashMap<>();
+
+    public StompMetricsInterceptor(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof AbstractMethodMessageHandler<?>) {
+            START.get()[0] = System.nanoTime();
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (!(handler instanceof AbstractMethodMessageHandler<?>)) return;
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) return;
+        timer(destination).recordNanos(System.nanoTime() - START.get()[0]);
+    }
+
+    private Histogram timer(String destination) {
+        Histogram timer = byDestination.get(destination);
+        if (timer != null) return timer;
+        timer = registry.histogram(SECTION, pattern(destination));
+        if (byDestination.size() >= MAX_CACHED_DESTINATIONS) byDestination.clear();
+        byDestination.put(destination, timer);
+        return timer;
+    }
+
+    /**
+     * Replaces path segments that carry ids (any segment with a digit) with
+     * {id}: /app/chat.send/665f0c2e9b1d4a7f3c2e1a90 -> /app/chat.send/{id}.
+     */
+    public static String pattern(String destination) {
+        StringBuilder sb = new StringBuilder(destination.length());
+        int start = 0;
+        while (start <= destination.length()) {
+            int end = destination.indexOf('/', start);
+            if (end < 0) end = destination.length();
+            String segment = destination.substring(start, end);
+            sb.append(segment.chars().anyMatch(Character::isDigit) ? "{id}" : segment);
+            if (end < destination.length()) sb.append('/');
+            start = end + 1;
+        }
+        return sb.toString();
+    }
+}
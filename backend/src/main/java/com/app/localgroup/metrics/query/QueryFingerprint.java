@@ -0,0 +1,94 @@
+package com.app.localgroup.metrics.query;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Set;
+
+/**
+ * Reduces a Mongo command to its shape: command, collection and the field
+ * names of its filter with every value replaced by {@code ?}, e.g.
+ * {@code find group_members {groupId:?}}. Two lookups that differ only in
+ * the id they ask for share a fingerprint, which is what makes an N+1 visible.
+ */
+final class QueryFingerprint {
+
+    /** Driver housekeeping that is not a query issued by application code. */
+    private static final Set<String> IGNORED = Set.of(
+            "hello", "ismaster", "isMaster", "ping", "buildInfo", "saslStart", "saslContinue",
+            "endSessions", "killCursors", "listIndexes", "createIndexes");
+
+    private QueryFingerprint() {}
+
+    /**
+     * @return the fingerprint, or null for commands that should not be counted
+     */
+    static String of(String commandName, BsonDocument command) {
+        if (IGNORED.contains(commandName)) return null;
+        BsonValue target = command.get(commandName);
+        String collection = target != null && target.isString() ? target.asString().getValue() : "";
+        StringBuilder sb = new StringBuilder(commandName).append(' ').append(collection);
+
+        switch (commandName) {
+            case "find", "count", "distinct" -> appendShape(sb, command.get(commandName.equals("find") ? "filter" : "query"));
+            case "findAndModify" -> appendShape(sb, command.get("query"));
+            case "aggregate" -> appendStages(sb, command.get("pipeline"));
+            case "update", "delete" -> appendFirstStatement(sb, command.get(commandName.equals("update") ? "updates" : "deletes"));
+            default -> { }
+        }
+        return sb.toString();
+    }
+
+    private static void appendFirstStatement(StringBuilder sb, BsonValue statements) {
+        if (statements instanceof BsonArray array && !array.isEmpty() && array.get(0).isDocument()) {
+            appendShape(sb, array.get(0).asDocument().get("q"));
+        }
+    }
+
+    private static void appendStages(StringBuilder sb, BsonValue pipeline) {
+        if (!(pipeline instanceof BsonArray stages)) return;
+        sb.append(" [");
+        for (int i = 0; i < stages.size(); i++) {
+            if (i > 0) sb.append(',');
+            BsonValue stage = stages.get(i);
+            if (stage.isDocument() && !stage.asDocument().isEmpty()) {
+                String name = stage.asDocument().getFirstKey();
+                sb.append(name);
+                if (name.equals("$match")) shape(sb, stage.asDocument().get(name));
+            }
+        }
+        sb.append(']');
+    }
+
+    private static void appendShape(StringBuilder sb, BsonValue filter) {
+        sb.append(' ');
+        shape(sb, filter != null ? filter : new BsonDocument());
+    }
+
+    /**
+     * Field names and operators are kept; literal values become '?'.
+     * Arrays keep only their first element's shape, so {$in:[...]} is one shape.
+     */
+    private static void shape(StringBuilder sb, BsonValue value) {
+        if (value.isDocument()) {
+            sb.append('{');
+            boolean first = true;
+            for (var entry : value.asDocument().entrySet()) {
+                if (!first) sb.append(',');
+                first = false;
+                sb.append(entry.getKey()).append(':');
+                shape(sb, entry.getValue());
+            }
+            sb.append('}');
+        } else if (value.isArray()) {
+            BsonArray array = value.asArray();
+            sb.append('[');
+            if (!array.isEmpty() && array.get(0).isDocument()) shape(sb, array.get(0));
+            else if (!array.isEmpty()) sb.append('?');
+            sb.append(']');
+        } else {
+            sb.append('?');
+        }
+    }
+}
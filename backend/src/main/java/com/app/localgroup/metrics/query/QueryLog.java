@@ -0,0 +1,106 @@
+package com.app.localgroup.metrics.query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mongo commands issued by one unit of work (an HTTP request, a STOMP
+ * message, or a block of test code), grouped by query shape.
+ *
+ * A log is bound to the current thread by {@link #open(String)}; the
+ * command listener adds to whichever log is current. Opening a log while
+ * another is active joins the outer one, so a test that wraps a MockMvc
+ * call sees every query the request made.
+ */
+public final class QueryLog {
+
+    private static final ThreadLocal<QueryLog> CURRENT = new ThreadLocal<>();
+
+    private final String label;
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+    private int total;
+
+    private QueryLog(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Starts recording on this thread; close the returned scope to stop.
+     */
+    public static Scope open(String label) {
+        QueryLog active = CURRENT.get();
+        if (active != null) return new Scope(active, false);
+        QueryLog log = new QueryLog(label);
+        CURRENT.set(log);
+        return new Scope(log, true);
+    }
+
+    static QueryLog current() {
+        return CURRENT.get();
+    }
+
+    void record(String fingerprint) {
+        total++;
+        shapes.merge(fingerprint, 1, Integer::sum);
+    }
+
+    public String label() {
+        return label;
+    }
+
+    /** Commands issued, getMore round trips included. */
+    public int total() {
+        return total;
+    }
+
+    /** Command count per query shape, in first-seen order. */
+    public Map<String, Integer> shapes() {
+        return Map.copyOf(shapes);
+    }
+
+    /**
+     * Shapes issued at least {@code threshold} times: the N in an N+1.
+     */
+    public List<String> repeated(int threshold) {
+        List<String> result = new ArrayList<>();
+        shapes.forEach((shape, count) -> {
+            if (count >= threshold) result.add(count + "x " + shape);
+        });
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return label + ": " + total + " queries " + shapes;
+    }
+
+    /**
+     * Handle for an open log; closing an outer scope unbinds it.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final QueryLog log;
+        private final boolean owner;
+
+        private Scope(QueryLog log, boolean owner) {
+            this.log = log;
+            this.owner = owner;
+        }
+
+        public QueryLog log() {
+            return log;
+        }
+
+        /** False when this scope joined a log opened further up the stack. */
+        public boolean isOwner() {
+            return owner;
+        }
+
+        @Override
+        public void close() {
+            if (owner) CURRENT.remove();
+        }
+    }
+}
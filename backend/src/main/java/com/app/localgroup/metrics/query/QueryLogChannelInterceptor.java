@@ -0,0 +1,44 @@
+package com.app.localgroup.metrics.query;
+
+import com.app.localgroup.metrics.StompMetricsInterceptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.handler.invocation.AbstractMethodMessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * One query log per inbound STOMP message, covering the @MessageMapping
+ * handler on the inbound executor thread.
+ */
+@Component
+public class QueryLogChannelInterceptor implements ExecutorChannelInterceptor {
+
+    private static final ThreadLocal<QueryLog.Scope> SCOPE = new ThreadLocal<>();
+
+    private final QueryLogReporter reporter;
+
+    public QueryLogChannelInterceptor(QueryLogReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (reporter.isEnabled() && handler instanceof AbstractMethodMessageHandler<?>) {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            SCOPE.set(reporter.open("STOMP " + (destination != null ? StompMetricsInterceptor.pattern(destination) : "?")));
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (!(handler instanceof AbstractMethodMessageHandler<?>)) return;
+        QueryLog.Scope scope = SCOPE.get();
+        if (scope == null) return;
+        SCOPE.remove();
+        reporter.close(scope, null);
+    }
+}
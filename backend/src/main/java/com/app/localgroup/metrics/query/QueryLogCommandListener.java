@@ -0,0 +1,23 @@
+package com.app.localgroup.metrics.query;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds every command the driver sends to the thread's open {@link QueryLog}.
+ * The synchronous driver raises commandStarted on the calling thread, so the
+ * log of the request or message that issued the query is the current one.
+ * With no log open this is a single ThreadLocal read.
+ */
+@Component
+public class QueryLogCommandListener implements CommandListener {
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        QueryLog log = QueryLog.current();
+        if (log == null) return;
+        String fingerprint = QueryFingerprint.of(event.getCommandName(), event.getCommand());
+        if (fingerprint != null) log.record(fingerprint);
+    }
+}
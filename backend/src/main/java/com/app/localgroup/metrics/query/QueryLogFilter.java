@@ -0,0 +1,47 @@
+package com.app.localgroup.metrics.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * One query log per HTTP request, labelled with the matched route
+ * (e.g. "GET /groups/{groupId}") so offenders group by endpoint.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 11)
+public class QueryLogFilter extends OncePerRequestFilter {
+
+    private final QueryLogReporter reporter;
+
+    public QueryLogFilter(QueryLogReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!reporter.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        QueryLog.Scope scope = reporter.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            reporter.close(scope, pattern != null ? request.getMethod() + " " + pattern : null);
+        }
+    }
+}
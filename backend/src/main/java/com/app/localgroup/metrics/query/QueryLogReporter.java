@@ -0,0 +1,82 @@
+package com.app.localgroup.metrics.query;
+
+import com.app.localgroup.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opens query logs for requests and messages when enabled, and judges them
+ * when they close. A unit of work is an offender when one query shape repeats
+ * {@code repeat-threshold} times (an N+1) or it issues more than
+ * {@code max-queries} commands. Offenders are counted in /metrics and a
+ * sampled fraction is logged with its shapes.
+ *
+ * Off by default; meant for tests and staging.
+ */
+@Component
+public class QueryLogReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryLogReporter.class);
+
+    private final boolean enabled;
+    private final int repeatThreshold;
+    private final int maxQueries;
+    private final double logSampleRate;
+
+    private final AtomicLong offenders;
+    private final AtomicLong inspected;
+
+    public QueryLogReporter(
+            MetricsRegistry metrics,
+            @Value("${app.query-log.enabled:false}") boolean enabled,
+            @Value("${app.query-log.repeat-threshold:3}") int repeatThreshold,
+            @Value("${app.query-log.max-queries:20}") int maxQueries,
+            @Value("${app.query-log.log-sample-rate:0.1}") double logSampleRate
+    ) {
+        this.enabled = enabled;
+        this.repeatThreshold = repeatThreshold;
+        this.maxQueries = maxQueries;
+        this.logSampleRate = logSampleRate;
+        this.offenders = metrics.gauge("query-log", "offenders");
+        this.inspected = metrics.gauge("query-log", "inspected");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return an open scope, or null when query logging is disabled
+     */
+    public QueryLog.Scope open(String label) {
+        return enabled ? QueryLog.open(label) : null;
+    }
+
+    /**
+     * Closes the scope and reports the log if this scope owned it.
+     *
+     * @param label final label, e.g. "GET /groups/me" once the handler is known (null keeps the opening label)
+     */
+    public void close(QueryLog.Scope scope, String label) {
+        if (scope == null) return;
+        scope.close();
+        if (!scope.isOwner()) return;
+
+        QueryLog queries = scope.log();
+        inspected.incrementAndGet();
+        List<String> repeated = queries.repeated(repeatThreshold);
+        if (repeated.isEmpty() && queries.total() <= maxQueries) return;
+
+        offenders.incrementAndGet();
+        if (ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            log.warn("Query budget exceeded by {}: {} queries, repeated shapes {}",
+                    label != null ? label : queries.label(), queries.total(), repeated);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.app.localgroup.place;
 
 import com.app.localgroup.common.ApiResponse;
+import com.app.localgroup.common.http.HttpCachePolicy;
+import com.app.localgroup.common.http.ReadModelVersions;
 import com.app.localgroup.place.dto.PlaceDto;
 import com.app.localgroup.place.model.Place;
 import jakarta.validation.constraints.NotNull;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,21 +26,26 @@ import java.util.Optional;
 public class PlaceController {
 
     private final PlaceService placeService;
+    private final ReadModelVersions versions;
+    private final HttpCachePolicy cachePolicy;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<PlaceDto>>> list(
-            @RequestParam(name = "category", required = false) Optional<Place.Category> category) {
+            @RequestParam(name = "category", required = false) Optional<Place.Category> category,
+            WebRequest request) {
+        if (request.checkNotModified(versions.placesETag())) return HttpCachePolicy.notModified(cachePolicy.places());
         List<Place> places = placeService.findAll(category);
         List<PlaceDto> dtos = places.stream().map(placeService::toDto).toList();
-        return ResponseEntity.ok(ApiResponse.<List<PlaceDto>>builder().success(true).data(dtos).message("OK").build());
+        return ResponseEntity.ok().cacheControl(cachePolicy.places()).body(ApiResponse.<List<PlaceDto>>builder().success(true).data(dtos).message("OK").build());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<PlaceDto>> get(@PathVariable("id") String id) {
+    public ResponseEntity<ApiResponse<PlaceDto>> get(@PathVariable("id") String id, WebRequest request) {
+        if (request.checkNotModified(versions.placesETag())) return HttpCachePolicy.notModified(cachePolicy.places());
         return placeService.findById(id)
                 .map(placeService::toDto)
-                .map(d -> ResponseEntity
-                        .ok(ApiResponse.<PlaceDto>builder().success(true).data(d).message("OK").build()))
+                .map(d -> ResponseEntity.ok().cacheControl(cachePolicy.places())
+                        .body(ApiResponse.<PlaceDto>builder().success(true).data(d).message("OK").build()))
                 .orElseGet(() -> ResponseEntity.status(404)
                         .body(ApiResponse.<PlaceDto>builder().success(false).message("Place not found").build()));
     }
@@ -45,9 +53,11 @@ public class PlaceController {
     @GetMapping("/nearby")
     public ResponseEntity<ApiResponse<List<PlaceDto>>> nearby(@RequestParam("lat") @NotNull double lat,
             @RequestParam("lng") @NotNull double lng,
-            @RequestParam(name = "radius", defaultValue = "1000") double radius) {
+            @RequestParam(name = "radius", defaultValue = "1000") double radius,
+            WebRequest request) {
+        if (request.checkNotModified(versions.placesETag())) return HttpCachePolicy.notModified(cachePolicy.nearby());
         List<Place> places = placeService.findNearby(lat, lng, radius);
         List<PlaceDto> dtos = places.stream().map(placeService::toDto).toList();
-        return ResponseEntity.ok(ApiResponse.<List<PlaceDto>>builder().success(true).data(dtos).message("OK").build());
+        return ResponseEntity.ok().cacheControl(cachePolicy.nearby()).body(ApiResponse.<List<PlaceDto>>builder().success(true).data(dtos).message("OK").build());
     }
 }
@@ -4,11 +4,13 @@ import com.app.localgroup.group.model.Group;
 import com.app.localgroup.group.repository.GroupRepository;
 import com.app.localgroup.place.dto.MapPlaceDto;
 import com.app.localgroup.place.dto.PlaceDto;
+import com.app.localgroup.place.event.PlaceChangedEvent;
 import com.app.localgroup.place.model.Place;
 import com.app.localgroup.place.repository.PlaceRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.stereotype.Service;
 
@@ -23,6 +25,7 @@ public class PlaceService {
 
     private final PlaceRepository placeRepository;
     private final GroupRepository groupRepository;
+    private final ApplicationEventPublisher events;
 
     public List<Place> findAll(Optional<Place.Category> category) {
         if (category.isPresent()) return placeRepository.findByCategory(category.get());
@@ -96,6 +99,7 @@ public class PlaceService {
             .build();
 
         Place saved = placeRepository.save(newPlace);
+        events.publishEvent(new PlaceChangedEvent(saved.getId()));
         log.info("Created new map place: externalId={} placeId={}", 
             mapPlace.getExternalPlaceId(), saved.getId());
         
@@ -111,6 +115,14 @@ public class PlaceService {
      * @return PlaceDto with all fields populated
      */
     public PlaceDto toDto(Place place) {
+        return toDto(place, activeGroupCount(place.getId()));
+    }
+
+    /**
+     * Same as {@link #toDto(Place)} with the group count already known
+     * (the reactive read path counts server-side and concurrently).
+     */
+    public static PlaceDto toDto(Place place, long activeGroupCount) {
         return PlaceDto.builder()
             .id(place.getId())
             .name(place.getName())
@@ -119,7 +131,7 @@ public class PlaceService {
                 ? List.of(place.getGeoLocation().getX(), place.getGeoLocation().getY()) 
                 : null)
             .tags(place.getTags())
-            .activeGroupCount(activeGroupCount(place.getId()))
+            .activeGroupCount(activeGroupCount)
             .externalPlaceId(place.getExternalPlaceId())
             .latitude(place.getLatitude())
             .longitude(place.getLongitude())
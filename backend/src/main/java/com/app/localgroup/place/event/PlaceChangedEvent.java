@@ -0,0 +1,6 @@
+package com.app.localgroup.place.event;
+
+/**
+ * Published by PlaceService after a place was created or modified.
+ */
+public record PlaceChangedEvent(String placeId) {}
@@ -0,0 +1,26 @@
+package com.app.localgroup.place.live;
+
+import com.app.localgroup.group.GroupService;
+import com.app.localgroup.group.dto.GroupDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+
+/**
+ * Initial snapshot for the live place feed (see PlaceGroupFeed).
+ * Route: SUBSCRIBE /app/place/{placeId}/groups, answered once to the subscriber.
+ */
+@Controller
+@RequiredArgsConstructor
+public class PlaceFeedController {
+
+    private final GroupService groupService;
+
+    @SubscribeMapping("/place/{placeId}/groups")
+    public List<GroupDto> snapshot(@DestinationVariable String placeId) {
+        return groupService.getGroupsByPlace(placeId);
+    }
+}
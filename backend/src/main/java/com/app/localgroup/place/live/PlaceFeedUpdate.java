@@ -0,0 +1,20 @@
+package com.app.localgroup.place.live;
+
+import com.app.localgroup.group.dto.GroupDto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One coalesced message on /topic/place/{placeId}/groups: every joinable-list
+ * change at the place since the previous flush.
+ */
+public record PlaceFeedUpdate(String placeId, List<Change> changes, Instant at) {
+
+    public enum Type { ADDED, UPDATED, REMOVED }
+
+    /**
+     * @param group the group as GET /groups/place/{placeId} would show it; null for REMOVED
+     */
+    public record Change(Type type, String groupId, GroupDto group) {}
+}
@@ -0,0 +1,117 @@
+package com.app.localgroup.place.live;
+
+import com.app.localgroup.group.GroupService;
+import com.app.localgroup.group.event.GroupChangedEvent;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.repository.GroupRepository;
+import com.app.localgroup.metrics.MetricsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Live joinable-group list per place, replacing polls of GET /groups/place/{placeId}.
+ *
+ * Clients subscribe to /topic/place/{placeId}/groups first, then to
+ * /app/place/{placeId}/groups for the initial snapshot (PlaceFeedController).
+ *
+ * Group changes only mark the group dirty; every coalesce window
+ * (app.place-feed.coalesce-window) each dirty place gets one PlaceFeedUpdate,
+ * so a burst of joins costs one load per group and one message. Places
+ * nobody on this node is subscribed to are dropped without loading anything.
+ * Private groups never appear in the feed.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceGroupFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaceGroupFeed.class);
+
+    private static final String TOPIC_PREFIX = "/topic/place/";
+    private static final String TOPIC_SUFFIX = "/groups";
+
+    private final GroupRepository groupRepository;
+    private final GroupService groupService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final MetricsRegistry metrics;
+
+    /** placeId -> (groupId -> created in this window). Inner maps are only touched inside compute/remove. */
+    private final ConcurrentHashMap<String, Map<String, Boolean>> pending = new ConcurrentHashMap<>();
+
+    public static String topic(String placeId) {
+        return TOPIC_PREFIX + placeId + TOPIC_SUFFIX;
+    }
+
+    @EventListener
+    public void onGroupChanged(GroupChangedEvent event) {
+        if (event.placeId() == null) return;
+        boolean created = event.change() == GroupChangedEvent.Change.CREATED;
+        pending.compute(event.placeId(), (placeId, groups) -> {
+            Map<String, Boolean> dirty = groups != null ? groups : new HashMap<>();
+            dirty.merge(event.groupId(), created, Boolean::logicalOr);
+            return dirty;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.place-feed.coalesce-window:PT0.25S}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+        long start = System.nanoTime();
+
+        Set<String> watched = watchedTopics();
+        for (String placeId : List.copyOf(pending.keySet())) {
+            Map<String, Boolean> dirty = pending.remove(placeId);
+            if (dirty == null || !watched.contains(topic(placeId))) continue;
+            try {
+                PlaceFeedUpdate update = update(placeId, dirty);
+                if (!update.changes().isEmpty()) messagingTemplate.convertAndSend(topic(placeId), update);
+            } catch (RuntimeException ex) {
+                log.warn("Place feed flush failed for place {}: {}", placeId, ex.getMessage());
+            }
+        }
+
+        metrics.histogram("scheduler", "place-feed.flush").recordNanos(System.nanoTime() - start);
+    }
+
+    private PlaceFeedUpdate update(String placeId, Map<String, Boolean> dirty) {
+        Map<String, Group> groups = new HashMap<>();
+        groupRepository.findAllById(dirty.keySet()).forEach(g -> groups.put(g.getId(), g));
+
+        List<PlaceFeedUpdate.Change> changes = new ArrayList<>(dirty.size());
+        for (Map.Entry<String, Boolean> entry : dirty.entrySet()) {
+            Group g = groups.get(entry.getKey());
+            if (g != null && g.getVisibility() != Group.Visibility.PUBLIC) continue;
+
+            if (g == null || g.getStatus() != Group.Status.JOINABLE) {
+                changes.add(new PlaceFeedUpdate.Change(PlaceFeedUpdate.Type.REMOVED, entry.getKey(), null));
+            } else {
+                PlaceFeedUpdate.Type type = entry.getValue() ? PlaceFeedUpdate.Type.ADDED : PlaceFeedUpdate.Type.UPDATED;
+                changes.add(new PlaceFeedUpdate.Change(type, g.getId(), groupService.toDto(g)));
+            }
+        }
+        return new PlaceFeedUpdate(placeId, changes, Instant.now());
+    }
+
+    /** Place feed destinations with at least one subscriber on this node. */
+    private Set<String> watchedTopics() {
+        return userRegistry.findSubscriptions(s -> s.getDestination().startsWith(TOPIC_PREFIX)).stream()
+                .map(SimpSubscription::getDestination)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,71 @@
+package com.app.localgroup.place.reactive;
+
+import com.app.localgroup.common.ApiResponse;
+import com.app.localgroup.common.http.HttpCachePolicy;
+import com.app.localgroup.common.http.ReadModelVersions;
+import com.app.localgroup.place.dto.PlaceDto;
+import com.app.localgroup.place.model.Place;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reactive variant of PlaceController under /reactive/places, same responses
+ * and the same ETag / Cache-Control handling.
+ *
+ * Runs inside the servlet stack: Spring MVC subscribes to the returned Mono
+ * and completes the request asynchronously, so no request thread waits on Mongo.
+ */
+@RestController
+@RequestMapping("/reactive/places")
+@RequiredArgsConstructor
+@Validated
+public class ReactivePlaceController {
+
+    private final ReactivePlaceService reactivePlaceService;
+    private final ReadModelVersions versions;
+    private final HttpCachePolicy cachePolicy;
+
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<List<PlaceDto>>>> list(
+            @RequestParam(name = "category", required = false) Optional<Place.Category> category,
+            WebRequest request) {
+        if (request.checkNotModified(versions.placesETag())) return Mono.just(HttpCachePolicy.notModified(cachePolicy.places()));
+        return reactivePlaceService.toDtos(reactivePlaceService.findAll(category))
+                .collectList()
+                .map(dtos -> ResponseEntity.ok().cacheControl(cachePolicy.places()).body(ApiResponse.<List<PlaceDto>>builder().success(true).data(dtos).message("OK").build()));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<PlaceDto>>> get(@PathVariable("id") String id, WebRequest request) {
+        if (request.checkNotModified(versions.placesETag())) return Mono.just(HttpCachePolicy.notModified(cachePolicy.places()));
+        return reactivePlaceService.findById(id)
+                .flatMap(reactivePlaceService::toDto)
+                .map(d -> ResponseEntity.ok().cacheControl(cachePolicy.places())
+                        .body(ApiResponse.<PlaceDto>builder().success(true).data(d).message("OK").build()))
+                .defaultIfEmpty(ResponseEntity.status(404)
+                        .body(ApiResponse.<PlaceDto>builder().success(false).message("Place not found").build()));
+    }
+
+    @GetMapping("/nearby")
+    public Mono<ResponseEntity<ApiResponse<List<PlaceDto>>>> nearby(@RequestParam("lat") @NotNull double lat,
+            @RequestParam("lng") @NotNull double lng,
+            @RequestParam(name = "radius", defaultValue = "1000") double radius,
+            WebRequest request) {
+        if (request.checkNotModified(versions.placesETag())) return Mono.just(HttpCachePolicy.notModified(cachePolicy.nearby()));
+        return reactivePlaceService.toDtos(reactivePlaceService.findNearby(lat, lng, radius))
+                .collectList()
+                .map(dtos -> ResponseEntity.ok().cacheControl(cachePolicy.nearby()).body(ApiResponse.<List<PlaceDto>>builder().success(true).data(dtos).message("OK").build()));
+    }
+}
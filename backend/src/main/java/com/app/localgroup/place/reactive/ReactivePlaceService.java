@@ -0,0 +1,72 @@
+package com.app.localgroup.place.reactive;
+
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.place.PlaceService;
+import com.app.localgroup.place.dto.PlaceDto;
+import com.app.localgroup.place.model.Place;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of the read side of {@link PlaceService}, on the
+ * reactive Mongo driver.
+ *
+ * Differences from the servlet path:
+ * - Active group counts are a server-side count instead of loading every group
+ * - Counts for a list of places run concurrently (bounded), order preserved
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactivePlaceService {
+
+    /** Group counts in flight at once while converting a list of places. */
+    static final int COUNT_CONCURRENCY = 16;
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    public Flux<Place> findAll(Optional<Place.Category> category) {
+        Query query = category
+                .map(c -> Query.query(Criteria.where("category").is(c)))
+                .orElseGet(Query::new);
+        return reactiveMongoTemplate.find(query, Place.class);
+    }
+
+    public Mono<Place> findById(String id) {
+        return reactiveMongoTemplate.findById(id, Place.class);
+    }
+
+    /**
+     * Same $nearSphere query as PlaceRepository#findNearby; coordinates go to
+     * Mongo in [lng, lat] order.
+     */
+    public Flux<Place> findNearby(double lat, double lng, double radiusMeters) {
+        Query query = Query.query(Criteria.where("geoLocation")
+                .nearSphere(new GeoJsonPoint(lng, lat))
+                .maxDistance(radiusMeters));
+        return reactiveMongoTemplate.find(query, Place.class);
+    }
+
+    public Mono<Long> activeGroupCount(String placeId) {
+        if (placeId == null) return Mono.just(0L);
+        Query query = Query.query(Criteria.where("placeId").is(placeId)
+                .and("visibility").is(Group.Visibility.PUBLIC)
+                .and("status").ne(Group.Status.EXPIRED));
+        return reactiveMongoTemplate.count(query, Group.class);
+    }
+
+    public Mono<PlaceDto> toDto(Place place) {
+        return activeGroupCount(place.getId()).map(count -> PlaceService.toDto(place, count));
+    }
+
+    public Flux<PlaceDto> toDtos(Flux<Place> places) {
+        return places.flatMapSequential(this::toDto, COUNT_CONCURRENCY);
+    }
+}
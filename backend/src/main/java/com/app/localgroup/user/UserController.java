@@ -12,6 +12,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -54,6 +55,50 @@ public class UserController {
             .success(true).data(updated).message("Profile updated").build());
     }
 
+    /**
+     * GET /users/username-available?username=...
+     * Live availability check for the profile form (served from memory).
+     * data = true when the name can be used; message explains why not.
+     */
+    @GetMapping("/username-available")
+    public ResponseEntity<ApiResponse<Boolean>> usernameAvailable(
+            @RequestParam("username") String username,
+            Authentication auth) {
+        UsernameIndex.Availability availability = userService.checkUsername((String) auth.getPrincipal(), username);
+        String message = switch (availability) {
+            case AVAILABLE -> "Username is available";
+            case TAKEN -> "Username is already taken";
+            case RESERVED -> "Username is reserved";
+            case INVALID -> "Username must be 3–25 characters and contain only letters, numbers, and underscores";
+        };
+        return ResponseEntity.ok(ApiResponse.<Boolean>builder()
+            .success(true).data(availability == UsernameIndex.Availability.AVAILABLE).message(message).build());
+    }
+
+    /**
+     * GET /users/search?prefix=an&limit=10
+     * Username autocomplete (at most 20 results, alphabetical).
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<String>>> searchUsernames(
+            @RequestParam("prefix") @NotBlank String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.<List<String>>builder()
+            .success(true).data(userService.searchUsernames(prefix, limit)).message("OK").build());
+    }
+
+    /**
+     * GET /users/public?ids=a,b,c
+     * Public profiles for up to 100 users in one call (e.g. a group's member
+     * list or chat header). Returned in request order; unknown ids are omitted.
+     */
+    @GetMapping("/public")
+    public ResponseEntity<ApiResponse<List<PublicUserDto>>> publicProfiles(
+            @RequestParam("ids") List<String> ids) {
+        return ResponseEntity.ok(ApiResponse.<List<PublicUserDto>>builder()
+            .success(true).data(userService.getPublicProfiles(ids)).message("OK").build());
+    }
+
     /**
      * GET /users/{id}
      * Returns a public profile (username, trustScore, totalTrips only).
@@ -1,19 +1,29 @@
 package com.app.localgroup.user;
 
+import com.app.localgroup.config.jwt.JwtUtil;
+import com.app.localgroup.leaderboard.TrustLeaderboard;
 import com.app.localgroup.group.model.Group;
 import com.app.localgroup.group.model.GroupMember;
-import com.app.localgroup.group.repository.GroupMemberRepository;
-import com.app.localgroup.group.repository.GroupRepository;
-import com.app.localgroup.place.PlaceService;
+import com.app.localgroup.place.model.Place;
+import com.app.localgroup.user.block.BlockListCache;
+import com.app.localgroup.user.cache.UserSnapshot;
+import com.app.localgroup.user.cache.UserSnapshotCache;
 import com.app.localgroup.user.dto.CompleteProfileDto;
 import com.app.localgroup.user.dto.PrivateUserDto;
 import com.app.localgroup.user.dto.PublicUserDto;
 import com.app.localgroup.user.model.User;
 import com.app.localgroup.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
@@ -27,18 +37,24 @@ public class UserService {
 
     private static final Logger log = LoggerFactory.getLogger(UserService.class);
 
-    /** Usernames that are not allowed regardless of uniqueness. */
-    private static final Set<String> RESERVED_USERNAMES = Set.of(
+    /** Usernames that are not allowed regardless of uniqueness (also served by UsernameIndex). */
+    static final Set<String> RESERVED_USERNAMES = Set.of(
         "admin", "administrator", "root", "system", "support",
         "help", "api", "null", "undefined", "moderator",
         "meetspot", "meet", "spot", "staff", "official",
         "me", "you", "user", "users", "profile"
     );
 
+    /** Upper bound for GET /users/public?ids=... */
+    public static final int MAX_BATCH_PROFILES = 100;
+
     private final UserRepository userRepository;
-    private final GroupMemberRepository groupMemberRepository;
-    private final GroupRepository groupRepository;
-    private final PlaceService placeService;
+    private final JwtUtil jwtUtil;
+    private final MongoTemplate mongoTemplate;
+    private final BlockListCache blockListCache;
+    private final UserSnapshotCache userSnapshotCache;
+    private final UsernameIndex usernameIndex;
+    private final TrustLeaderboard trustLeaderboard;
 
     // -------------------------------------------------------------------------
     // Profile completeness — derived, never stored
@@ -63,7 +79,7 @@ public class UserService {
      * Normalise a username candidate: trim whitespace and convert to lowercase.
      * Usernames are stored and compared case-insensitively.
      */
-    private static String normalise(String raw) {
+    static String normalise(String raw) {
         return raw == null ? null : raw.strip().toLowerCase();
     }
 
@@ -86,6 +102,9 @@ public class UserService {
      * - Repository uniqueness check before save (fast, avoids unnecessary writes)
      * - DuplicateKeyException caught in case of race condition (database-level index)
      *
+     * The response carries a re-issued token so the client's JWT claims
+     * (username, gender, profile-complete) match the saved profile.
+     *
      * @throws IllegalArgumentException for validation failures
      * @throws IllegalStateException for immutability violations
      */
@@ -108,6 +127,7 @@ public class UserService {
             }
         });
 
+        String previousUsername = user.getUsername();
         user.setUsername(normalised);
 
         // --- Age (immutable after first save) ---
@@ -137,8 +157,13 @@ public class UserService {
 
         try {
             User saved = userRepository.save(user);
+            userSnapshotCache.put(saved);
+            usernameIndex.replace(previousUsername, normalised);
+            trustLeaderboard.update(saved.getId(), saved.getTrustScore());
             log.info("Profile updated for user {}: username={}", userId, normalised);
-            return toPrivateDto(saved);
+            PrivateUserDto result = toPrivateDto(saved);
+            result.setToken(jwtUtil.issueToken(saved));
+            return result;
         } catch (DuplicateKeyException ex) {
             // Database-level unique index on username caught a race condition
             log.warn("DuplicateKeyException saving username '{}' for user {}", normalised, userId);
@@ -161,7 +186,67 @@ public class UserService {
     }
 
     public Optional<PublicUserDto> getPublicProfile(String userId) {
-        return userRepository.findById(userId).map(this::toPublicDto);
+        return userSnapshotCache.get(userId).map(this::toPublicDto);
+    }
+
+    /**
+     * Public profiles for up to {@link #MAX_BATCH_PROFILES} users, in request order.
+     * Cached snapshots are used where present; the rest come from one $in query.
+     * Unknown ids are omitted.
+     */
+    public List<PublicUserDto> getPublicProfiles(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one user id is required");
+        }
+        if (userIds.size() > MAX_BATCH_PROFILES) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_PROFILES + " user ids may be requested at once");
+        }
+        return userSnapshotCache.getAll(userIds).values().stream()
+            .map(this::toPublicDto)
+            .toList();
+    }
+
+    // -------------------------------------------------------------------------
+    // Username lookup (in-memory index, no Mongo round trip)
+    // -------------------------------------------------------------------------
+
+    /** Upper bound for GET /users/search */
+    public static final int MAX_SEARCH_RESULTS = 20;
+
+    public UsernameIndex.Availability checkUsername(String userId, String candidate) {
+        String own = userSnapshotCache.get(userId).map(UserSnapshot::username).orElse(null);
+        return usernameIndex.check(candidate, own);
+    }
+
+    public List<String> searchUsernames(String prefix, int limit) {
+        return usernameIndex.search(prefix, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+    }
+
+    // -------------------------------------------------------------------------
+    // Trust score
+    // -------------------------------------------------------------------------
+
+    /**
+     * Atomically adjusts trust score and trip count ($inc, no read-modify-write,
+     * so concurrent profile edits or blocks are never overwritten) and writes
+     * the new values through to the snapshot cache and the leaderboard.
+     */
+    public void adjustTrust(String userId, int trustScoreDelta, int totalTripsDelta) {
+        Update update = new Update().inc("trustScore", trustScoreDelta);
+        if (totalTripsDelta != 0) {
+            update.inc("totalTrips", totalTripsDelta);
+        }
+        User updated = mongoTemplate.findAndModify(
+            Query.query(Criteria.where("_id").is(userId)),
+            update,
+            FindAndModifyOptions.options().returnNew(true),
+            User.class);
+        if (updated != null) {
+            userSnapshotCache.put(updated);
+            if (updated.getUsername() != null) {
+                trustLeaderboard.update(userId, updated.getTrustScore());
+            }
+        }
     }
 
     // -------------------------------------------------------------------------
@@ -171,12 +256,8 @@ public class UserService {
     public void blockUser(Authentication auth, String toBlockUserId) {
         if (auth == null || auth.getPrincipal() == null) return;
         String userId = (String) auth.getPrincipal();
-        userRepository.findById(userId).ifPresent(u -> {
-            if (!u.getBlockedUsers().contains(toBlockUserId)) {
-                u.getBlockedUsers().add(toBlockUserId);
-                userRepository.save(u);
-            }
-        });
+        // Atomic $addToSet: no read-modify-write, duplicates impossible
+        blockListCache.block(userId, toBlockUserId);
     }
 
     // -------------------------------------------------------------------------
@@ -202,6 +283,15 @@ public class UserService {
             .build();
     }
 
+    public PublicUserDto toPublicDto(UserSnapshot s) {
+        return PublicUserDto.builder()
+            .id(s.id())
+            .username(s.username())
+            .trustScore(s.trustScore())
+            .totalTrips(s.totalTrips())
+            .build();
+    }
+
     public PublicUserDto toPublicDto(User u) {
         return PublicUserDto.builder()
             .id(u.getId())
@@ -218,19 +308,51 @@ public class UserService {
      * AND the group has reached ACTIVE or EXPIRED status.
      *
      * No data is stored on the User document — single source of truth.
+     *
+     * Runs as one aggregation over group_members (indexed on userId + confirmed)
+     * with $lookup into groups and places by _id, so cost does not grow with
+     * one round trip per trip. Names are ordered by first visit.
      */
     private List<String> derivePlacesVisited(String userId) {
-        return groupMemberRepository.findByUserId(userId).stream()
-            .filter(GroupMember::isConfirmed)
-            .map(m -> groupRepository.findById(m.getGroupId()))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .filter(g -> g.getStatus() == Group.Status.ACTIVE || g.getStatus() == Group.Status.EXPIRED)
-            .map(g -> placeService.findById(g.getPlaceId()))
-            .filter(Optional::isPresent)
-            .map(p -> p.get().getName())
-            .filter(name -> name != null && !name.isBlank())
-            .distinct()
+        Aggregation pipeline = Aggregation.newAggregation(
+            Aggregation.stage(new Document("$match",
+                new Document("userId", userId).append("confirmed", true))),
+            // Ids are stored as strings on the member/group side but as ObjectIds in _id
+            Aggregation.stage(new Document("$project", new Document("joinedAt", 1)
+                .append("gid", toObjectId("$groupId")))),
+            Aggregation.stage(lookupById(mongoTemplate.getCollectionName(Group.class), "gid", "group")),
+            Aggregation.stage(new Document("$unwind", "$group")),
+            Aggregation.stage(new Document("$match", new Document("group.status",
+                new Document("$in", List.of(Group.Status.ACTIVE.name(), Group.Status.EXPIRED.name()))))),
+            Aggregation.stage(new Document("$project", new Document("joinedAt", 1)
+                .append("pid", toObjectId("$group.placeId")))),
+            Aggregation.stage(lookupById(mongoTemplate.getCollectionName(Place.class), "pid", "place")),
+            Aggregation.stage(new Document("$unwind", "$place")),
+            // Non-blank names only (a regex never matches null or non-strings)
+            Aggregation.stage(new Document("$match", new Document("place.name", new Document("$regex", "\\S")))),
+            Aggregation.stage(new Document("$group", new Document("_id", "$place.name")
+                .append("firstVisit", new Document("$min", "$joinedAt")))),
+            Aggregation.stage(new Document("$sort", new Document("firstVisit", 1).append("_id", 1)))
+        );
+
+        return mongoTemplate.aggregate(pipeline, mongoTemplate.getCollectionName(GroupMember.class), Document.class)
+            .getMappedResults().stream()
+            .map(doc -> doc.getString("_id"))
             .toList();
     }
+
+    private static Document toObjectId(String field) {
+        // Leaves ids that are not valid ObjectId hex untouched, matching how they were stored
+        return new Document("$convert", new Document("input", field)
+            .append("to", "objectId")
+            .append("onError", field)
+            .append("onNull", null));
+    }
+
+    private static Document lookupById(String from, String localField, String as) {
+        return new Document("$lookup", new Document("from", from)
+            .append("localField", localField)
+            .append("foreignField", "_id")
+            .append("as", as));
+    }
 }
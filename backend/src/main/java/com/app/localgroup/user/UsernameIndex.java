@@ -0,0 +1,141 @@
+package com.app.localgroup.user;
+
+import com.app.localgroup.user.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory sorted index of taken usernames for live availability checks
+ * and prefix autocomplete.
+ *
+ * - Names are normalised (trimmed, lowercase) and kept in a skip-list set, so
+ *   membership is O(log n) and a prefix search is a range scan of at most
+ *   {@code limit} entries
+ * - Reserved names are checked first and never appear in search results
+ * - Loaded from Mongo (usernames only) shortly after startup and reloaded
+ *   periodically to pick up names saved by other nodes; profile saves on this
+ *   node update it immediately
+ *
+ * Until the first load completes, availability falls back to a Mongo lookup.
+ * The unique index on users.username remains the authority at save time.
+ */
+@Component
+public class UsernameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UsernameIndex.class);
+
+    /** Same rule as CompleteProfileDto, applied after normalisation. */
+    private static final Pattern VALID = Pattern.compile("^[a-z0-9_]{3,25}$");
+
+    public enum Availability { AVAILABLE, TAKEN, RESERVED, INVALID }
+
+    private final MongoTemplate mongoTemplate;
+    private final Set<String> reserved;
+
+    private volatile ConcurrentSkipListSet<String> names = new ConcurrentSkipListSet<>();
+    private volatile boolean loaded;
+
+    // Names added while a reload is reading Mongo, replayed onto the fresh set
+    private final Queue<String> addedDuringReload = new ConcurrentLinkedQueue<>();
+    private volatile boolean reloading;
+
+    public UsernameIndex(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.reserved = UserService.RESERVED_USERNAMES;
+    }
+
+    /**
+     * @param candidate raw input; normalised before the check
+     * @param ownUsername the caller's current username (always available to them), or null
+     */
+    public Availability check(String candidate, String ownUsername) {
+        String name = UserService.normalise(candidate);
+        if (name == null || !VALID.matcher(name).matches()) return Availability.INVALID;
+        if (reserved.contains(name)) return Availability.RESERVED;
+        if (name.equals(ownUsername)) return Availability.AVAILABLE;
+
+        boolean taken = loaded
+            ? names.contains(name)
+            : mongoTemplate.exists(Query.query(Criteria.where("username").is(name)), User.class);
+        return taken ? Availability.TAKEN : Availability.AVAILABLE;
+    }
+
+    /**
+     * @return up to {@code limit} taken usernames starting with the prefix, in order
+     */
+    public List<String> search(String prefix, int limit) {
+        String p = UserService.normalise(prefix);
+        List<String> result = new ArrayList<>(Math.min(limit, 32));
+        if (p == null || p.isEmpty()) return result;
+
+        // Every string with this prefix sorts between p and p + Character.MAX_VALUE
+        for (String name : names.subSet(p, true, p + Character.MAX_VALUE, false)) {
+            if (result.size() >= limit) break;
+            result.add(name);
+        }
+        return result;
+    }
+
+    /**
+     * Records a saved username change (either side may be null).
+     */
+    public void replace(String oldUsername, String newUsername) {
+        if (oldUsername != null && !oldUsername.equals(newUsername)) {
+            names.remove(oldUsername);
+        }
+        if (newUsername != null) {
+            names.add(newUsername);
+            if (reloading) addedDuringReload.add(newUsername);
+        }
+    }
+
+    @Scheduled(initialDelayString = "PT5S", fixedDelayString = "${app.username-index.reload-interval:PT10M}")
+    public void reload() {
+        long start = System.currentTimeMillis();
+        reloading = true;
+        addedDuringReload.clear();
+        try {
+            Query query = Query.query(Criteria.where("username").ne(null));
+            query.fields().include("username");
+
+            ConcurrentSkipListSet<String> fresh = new ConcurrentSkipListSet<>();
+            try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+                users.forEach(u -> fresh.add(u.getUsername()));
+            }
+
+            names = fresh;
+            String name;
+            while ((name = addedDuringReload.poll()) != null) {
+                fresh.add(name);
+            }
+            loaded = true;
+            log.info("Username index loaded: {} names in {} ms", fresh.size(), System.currentTimeMillis() - start);
+        } catch (Exception ex) {
+            log.warn("Username index reload failed, keeping previous index: {}", ex.getMessage());
+        } finally {
+            reloading = false;
+        }
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+}
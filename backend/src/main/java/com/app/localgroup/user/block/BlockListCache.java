@@ -0,0 +1,96 @@
+package com.app.localgroup.user.block;
+
+import com.app.localgroup.common.cache.ExpiringCache;
+import com.app.localgroup.user.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Block lists as cached hash sets.
+ *
+ * - Membership checks are O(1) against an immutable per-user set, loaded with
+ *   a projection of only blockedUsers and kept for app.block-lists.ttl-ms
+ * - Blocking is a single atomic $addToSet, so concurrent blocks cannot overwrite
+ *   each other the way the old load-append-save did; the returned array
+ *   refreshes this node's cached set immediately
+ *
+ * Other nodes see a new block once their cached set expires (at most the TTL).
+ */
+@Component
+public class BlockListCache {
+
+    private static final String FIELD = "blockedUsers";
+
+    private final MongoTemplate mongoTemplate;
+    private final ExpiringCache<String, Set<String>> blockLists;
+
+    public BlockListCache(
+            MongoTemplate mongoTemplate,
+            @Value("${app.block-lists.cache-size:10000}") int cacheSize,
+            @Value("${app.block-lists.ttl-ms:60000}") long ttlMillis
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.blockLists = new ExpiringCache<>("block-lists", cacheSize, ttlMillis);
+    }
+
+    /**
+     * @return true if {@code blockerId} has blocked {@code userId}
+     */
+    public boolean isBlocked(String blockerId, String userId) {
+        return blockedBy(blockerId).contains(userId);
+    }
+
+    /**
+     * @return the ids blocked by the user (empty for unknown users)
+     */
+    public Set<String> blockedBy(String blockerId) {
+        Set<String> cached = blockLists.get(blockerId);
+        if (cached != null) {
+            return cached;
+        }
+        Query query = Query.query(where("_id").is(blockerId));
+        query.fields().include(FIELD);
+        User projection = mongoTemplate.findOne(query, User.class);
+        Set<String> loaded = toSet(projection);
+        blockLists.put(blockerId, loaded);
+        return loaded;
+    }
+
+    /**
+     * Atomically adds {@code toBlockUserId} to the blocker's list.
+     * @return false if the blocker does not exist
+     */
+    public boolean block(String blockerId, String toBlockUserId) {
+        Query query = Query.query(where("_id").is(blockerId));
+        query.fields().include(FIELD);
+        User updated = mongoTemplate.findAndModify(
+                query,
+                new Update().addToSet(FIELD, toBlockUserId),
+                FindAndModifyOptions.options().returnNew(true),
+                User.class
+        );
+        if (updated == null) {
+            return false;
+        }
+        blockLists.put(blockerId, toSet(updated));
+        return true;
+    }
+
+    public ExpiringCache<String, Set<String>> cache() {
+        return blockLists;
+    }
+
+    private static Set<String> toSet(User user) {
+        List<String> blocked = user != null ? user.getBlockedUsers() : null;
+        return blocked == null || blocked.isEmpty() ? Set.of() : Set.copyOf(blocked);
+    }
+}
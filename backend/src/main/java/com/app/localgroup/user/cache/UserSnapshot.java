@@ -0,0 +1,40 @@
+package com.app.localgroup.user.cache;
+
+import com.app.localgroup.user.UserService;
+import com.app.localgroup.user.model.Gender;
+import com.app.localgroup.user.model.User;
+
+/**
+ * Immutable view of the user fields hot read paths need.
+ *
+ * Deliberately excludes private data (email, phone, bio) and block lists
+ * (cached separately by BlockListCache), so snapshots are small and safe to
+ * hand to any caller that renders public profiles.
+ */
+public record UserSnapshot(
+        String id,
+        String username,
+        Integer age,
+        Gender gender,
+        int trustScore,
+        int totalTrips
+) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getUsername(),
+                user.getAge(),
+                user.getGender(),
+                user.getTrustScore(),
+                user.getTotalTrips()
+        );
+    }
+
+    /**
+     * Same rule as {@link UserService#isProfileComplete(User)}.
+     */
+    public boolean profileComplete() {
+        return username != null && age != null && gender != null;
+    }
+}
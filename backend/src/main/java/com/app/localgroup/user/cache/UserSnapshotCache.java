@@ -0,0 +1,168 @@
+package com.app.localgroup.user.cache;
+
+import com.app.localgroup.common.cache.ExpiringCache;
+import com.app.localgroup.user.model.User;
+import com.app.localgroup.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, expiring cache of {@link UserSnapshot}s.
+ *
+ * - Write-through: profile saves and trust-score updates put the new snapshot
+ *   here, so this node never serves its own stale writes
+ * - Batch reads ({@link #getAll}) load every miss with one projected $in query
+ * - Within an HTTP request, lookups are also memoised in a request attribute,
+ *   so repeated reads of the same user cost one load even when the shared
+ *   cache is disabled or evicts the entry
+ *
+ * Other nodes observe a write once their entry expires (app.user-cache.ttl-ms).
+ */
+@Component
+public class UserSnapshotCache {
+
+    private static final String REQUEST_MEMO = UserSnapshotCache.class.getName() + ".memo";
+
+    private final UserRepository userRepository;
+    private final ExpiringCache<String, UserSnapshot> snapshots;
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder requestHits = new LongAdder();
+
+    public UserSnapshotCache(
+            UserRepository userRepository,
+            @Value("${app.user-cache.size:20000}") int size,
+            @Value("${app.user-cache.ttl-ms:30000}") long ttlMillis
+    ) {
+        this.userRepository = userRepository;
+        this.snapshots = new ExpiringCache<>("user-snapshots", size, ttlMillis);
+    }
+
+    public Optional<UserSnapshot> get(String userId) {
+        if (userId == null) return Optional.empty();
+
+        Map<String, UserSnapshot> memo = requestMemo();
+        if (memo != null && memo.containsKey(userId)) {
+            requestHits.increment();
+            return Optional.ofNullable(memo.get(userId));
+        }
+
+        UserSnapshot snapshot = snapshots.get(userId);
+        if (snapshot == null) {
+            loads.increment();
+            snapshot = userRepository.findById(userId).map(UserSnapshot::from).orElse(null);
+            snapshots.put(userId, snapshot);
+        }
+        if (memo != null) memo.put(userId, snapshot);
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * Looks up many users at once; all misses are loaded with a single query.
+     *
+     * @return snapshots keyed by id, in the order the ids were given (unknown ids omitted)
+     */
+    public Map<String, UserSnapshot> getAll(Collection<String> userIds) {
+        Map<String, UserSnapshot> memo = requestMemo();
+        Map<String, UserSnapshot> found = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        for (String id : new LinkedHashSet<>(userIds)) {
+            if (id == null) continue;
+            if (memo != null && memo.containsKey(id)) {
+                requestHits.increment();
+                found.put(id, memo.get(id));
+                continue;
+            }
+            UserSnapshot snapshot = snapshots.get(id);
+            found.put(id, snapshot);
+            if (snapshot == null) missing.add(id);
+        }
+
+        if (!missing.isEmpty()) {
+            loads.increment();
+            for (User user : userRepository.findSnapshotsByIdIn(missing)) {
+                UserSnapshot snapshot = UserSnapshot.from(user);
+                snapshots.put(user.getId(), snapshot);
+                found.put(user.getId(), snapshot);
+            }
+        }
+
+        if (memo != null) memo.putAll(found);
+        found.values().removeIf(Objects::isNull);
+        return found;
+    }
+
+    /**
+     * Cached snapshots only; never touches the database. For the reactive read
+     * path, which loads the misses itself and hands them back via {@link #put(User)}.
+     */
+    public Map<String, UserSnapshot> getCached(Collection<String> userIds) {
+        Map<String, UserSnapshot> found = new LinkedHashMap<>();
+        for (String id : userIds) {
+            if (id == null || found.containsKey(id)) continue;
+            UserSnapshot snapshot = snapshots.get(id);
+            if (snapshot != null) found.put(id, snapshot);
+        }
+        return found;
+    }
+
+    /**
+     * Write-through after the user document was saved.
+     */
+    public void put(User user) {
+        UserSnapshot snapshot = UserSnapshot.from(user);
+        snapshots.put(user.getId(), snapshot);
+        Map<String, UserSnapshot> memo = requestMemo();
+        if (memo != null) memo.put(user.getId(), snapshot);
+    }
+
+    public void invalidate(String userId) {
+        snapshots.invalidate(userId);
+        Map<String, UserSnapshot> memo = requestMemo();
+        if (memo != null) memo.remove(userId);
+    }
+
+    // -------------------------------------------------------------------------
+    // Metrics
+    // -------------------------------------------------------------------------
+
+    public ExpiringCache<String, UserSnapshot> cache() {
+        return snapshots;
+    }
+
+    /** Database round trips issued by the cache (a batch counts once). */
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    /** Lookups answered by the per-request memo. */
+    public long requestHitCount() {
+        return requestHits.sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, UserSnapshot> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return null;
+        Object memo = attributes.getAttribute(REQUEST_MEMO, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<String, UserSnapshot>();
+            attributes.setAttribute(REQUEST_MEMO, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, UserSnapshot>) memo;
+    }
+}
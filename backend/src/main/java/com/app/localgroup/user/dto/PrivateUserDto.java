@@ -1,6 +1,7 @@
 package com.app.localgroup.user.dto;
 
 import com.app.localgroup.user.model.Gender;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
@@ -29,4 +30,8 @@ public class PrivateUserDto {
     private List<String> placesVisited; // derived from completed group memberships
     private List<String> blockedUsers;
     private Instant createdAt;
+
+    /** Re-issued JWT carrying the updated identity claims; set only by PATCH /users/profile. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String token;
 }
@@ -2,8 +2,11 @@ package com.app.localgroup.user.repository;
 
 import com.app.localgroup.user.model.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +20,12 @@ public interface UserRepository extends MongoRepository<User, String> {
      * after normalization in UserService.
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * Batch lookup for user snapshots: one $in query, projected to the
+     * public/snapshot fields only (no email, phone, bio or block list).
+     */
+    @Query(value = "{ '_id': { '$in': ?0 } }",
+           fields = "{ 'username': 1, 'age': 1, 'gender': 1, 'trustScore': 1, 'totalTrips': 1 }")
+    List<User> findSnapshotsByIdIn(Collection<String> ids);
 }
@@ -0,0 +1,64 @@
+package com.app.localgroup.auth;
+
+import com.app.localgroup.auth.otp.InMemoryOtpStore;
+import com.app.localgroup.auth.otp.OtpVerification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryOtpStore - bounded, self-expiring OTP storage")
+class InMemoryOtpStoreTests {
+
+    @Test
+    @DisplayName("A matching code is valid exactly once")
+    void codeIsConsumedOnSuccess() {
+        InMemoryOtpStore store = new InMemoryOtpStore(300, 100, 5);
+        store.put("a@x.com|1", "123456");
+
+        assertEquals(OtpVerification.VALID, store.verify("a@x.com|1", "123456"));
+        assertEquals(OtpVerification.NOT_FOUND, store.verify("a@x.com|1", "123456"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("Wrong guesses burn the code after max-attempts")
+    void codeIsBurnedAfterTooManyAttempts() {
+        InMemoryOtpStore store = new InMemoryOtpStore(300, 100, 3);
+        store.put("k", "123456");
+
+        assertEquals(OtpVerification.MISMATCH, store.verify("k", "000001"));
+        assertEquals(OtpVerification.MISMATCH, store.verify("k", "000002"));
+        assertEquals(OtpVerification.TOO_MANY_ATTEMPTS, store.verify("k", "000003"));
+        assertEquals(OtpVerification.NOT_FOUND, store.verify("k", "123456"));
+        assertEquals(1, store.burnedCount());
+    }
+
+    @Test
+    @DisplayName("A request-otp flood never grows the store past its cap")
+    void floodStaysUnderCap() {
+        InMemoryOtpStore store = new InMemoryOtpStore(300, 1_000, 5);
+        for (int i = 0; i < 50_000; i++) {
+            store.put("bot-" + i + "|phone", "111111");
+        }
+
+        assertTrue(store.size() <= 1_000, "size was " + store.size());
+        assertTrue(store.evictedCount() >= 49_000);
+        // The newest code survives eviction
+        assertEquals(OtpVerification.VALID, store.verify("bot-49999|phone", "111111"));
+    }
+
+    @Test
+    @DisplayName("The sweeper drops codes once their TTL bucket has passed")
+    void sweeperExpiresOldBuckets() throws InterruptedException {
+        InMemoryOtpStore store = new InMemoryOtpStore(1, 100, 5);
+        store.put("k1", "123456");
+        store.put("k2", "654321");
+
+        Thread.sleep(3_100);
+        store.sweep();
+
+        assertEquals(0, store.size());
+        assertEquals(2, store.expiredCount());
+    }
+}
@@ -0,0 +1,129 @@
+package com.app.localgroup.auth;
+
+import com.app.localgroup.auth.otp.MongoOtpStore;
+import com.app.localgroup.auth.otp.OtpVerification;
+import com.app.localgroup.support.MongoStandIn;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * MongoOtpStore against the local Mongo stand-in. Two store instances over
+ * the same database play the part of two application nodes.
+ */
+@DisplayName("MongoOtpStore - shared OTP storage across nodes")
+class MongoOtpStoreTests {
+
+    private static MongoClient client;
+    private static MongoTemplate template;
+
+    private MongoOtpStore nodeA;
+    private MongoOtpStore nodeB;
+
+    @BeforeAll
+    static void connect() {
+        assumeTrue(MongoStandIn.isAvailable(), "No Docker or TEST_MONGODB_URI; skipping Mongo OTP store tests");
+        client = MongoClients.create(MongoStandIn.connectionString("otp_store_tests"));
+        template = new MongoTemplate(client, "otp_store_tests");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (client != null) client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        template.dropCollection("otp_codes");
+        nodeA = new MongoOtpStore(template, 300, 3);
+        nodeB = new MongoOtpStore(template, 300, 3);
+        nodeA.initIndices();
+    }
+
+    @Test
+    @DisplayName("A code requested on one node verifies on another, exactly once")
+    void codeIsSharedAndConsumed() {
+        nodeA.put("a@x.com|1", "123456");
+
+        assertEquals(OtpVerification.VALID, nodeB.verify("a@x.com|1", "123456"));
+        assertEquals(OtpVerification.NOT_FOUND, nodeA.verify("a@x.com|1", "123456"));
+    }
+
+    @Test
+    @DisplayName("Wrong guesses burn the code after max-attempts")
+    void codeIsBurnedAfterTooManyAttempts() {
+        nodeA.put("k", "123456");
+
+        assertEquals(OtpVerification.MISMATCH, nodeB.verify("k", "000001"));
+        assertEquals(OtpVerification.MISMATCH, nodeA.verify("k", "000002"));
+        assertEquals(OtpVerification.TOO_MANY_ATTEMPTS, nodeB.verify("k", "000003"));
+        assertEquals(OtpVerification.NOT_FOUND, nodeA.verify("k", "123456"));
+    }
+
+    @Test
+    @DisplayName("Re-requesting a code replaces it and resets the attempt counter")
+    void reRequestReplacesCode() {
+        nodeA.put("k", "111111");
+        nodeA.verify("k", "000000");
+        nodeA.verify("k", "000000");
+        nodeB.put("k", "222222");
+
+        assertEquals(OtpVerification.MISMATCH, nodeA.verify("k", "111111"));
+        assertEquals(OtpVerification.VALID, nodeA.verify("k", "222222"));
+    }
+
+    @Test
+    @DisplayName("Codes older than the TTL are reported expired even before the TTL monitor runs")
+    void expiredCodeIsRejected() throws InterruptedException {
+        MongoOtpStore shortLived = new MongoOtpStore(template, 1, 3);
+        shortLived.put("k", "123456");
+
+        Thread.sleep(1_200);
+        assertEquals(OtpVerification.EXPIRED, shortLived.verify("k", "123456"));
+        assertEquals(OtpVerification.NOT_FOUND, shortLived.verify("k", "123456"));
+    }
+
+    @Test
+    @DisplayName("Concurrent verifiers on different nodes: only one succeeds")
+    void concurrentVerifyConsumesOnce() throws Exception {
+        nodeA.put("k", "123456");
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<OtpVerification>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                MongoOtpStore node = i % 2 == 0 ? nodeA : nodeB;
+                results.add(pool.submit(() -> node.verify("k", "123456")));
+            }
+            long valid = 0;
+            for (Future<OtpVerification> result : results) {
+                if (result.get() == OtpVerification.VALID) valid++;
+            }
+            assertEquals(1, valid);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A TTL index is created on createdAt")
+    void ttlIndexExists() {
+        boolean hasTtl = template.indexOps("otp_codes").getIndexInfo().stream()
+                .anyMatch(index -> index.getExpireAfter().isPresent());
+        assertTrue(hasTtl);
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.localgroup.chat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompactSubscriptions - per-destination subscriber counts")
+class CompactSubscriptionsTests {
+
+    private static final String COMPACT = "/topic/group/g1/compact";
+
+    private final CompactSubscriptions subscriptions = new CompactSubscriptions();
+
+    @Test
+    @DisplayName("A destination is watched until its last subscription is gone")
+    void countsSubscriptions() {
+        assertFalse(subscriptions.isWatched(COMPACT));
+
+        subscribe("s1", "sub-0", COMPACT);
+        subscribe("s2", "sub-0", COMPACT);
+        assertTrue(subscriptions.isWatched(COMPACT));
+
+        unsubscribe("s1", "sub-0");
+        assertTrue(subscriptions.isWatched(COMPACT));
+        unsubscribe("s2", "sub-0");
+        assertFalse(subscriptions.isWatched(COMPACT));
+
+        unsubscribe("s2", "sub-0");
+        assertFalse(subscriptions.isWatched(COMPACT), "a repeated UNSUBSCRIBE changes nothing");
+    }
+
+    @Test
+    @DisplayName("Disconnecting releases every subscription of the session")
+    void disconnectReleasesSession() {
+        subscribe("s1", "sub-0", COMPACT);
+        subscribe("s1", "sub-1", "/topic/group/g2/compact");
+        subscribe("s2", "sub-0", "/topic/group/g2/compact");
+
+        disconnect("s1");
+
+        assertFalse(subscriptions.isWatched(COMPACT));
+        assertTrue(subscriptions.isWatched("/topic/group/g2/compact"));
+        disconnect("s1");
+        assertTrue(subscriptions.isWatched("/topic/group/g2/compact"));
+    }
+
+    @Test
+    @DisplayName("JSON chat and other destinations are not tracked")
+    void ignoresOtherDestinations() {
+        subscribe("s1", "sub-0", "/topic/group/g1");
+        subscribe("s1", "sub-1", "/topic/place/p1/groups");
+
+        assertFalse(subscriptions.isWatched("/topic/group/g1"));
+        assertFalse(subscriptions.isWatched("/topic/place/p1/groups"));
+    }
+
+    @Test
+    @DisplayName("Reusing a subscription id moves its count to the new destination")
+    void reusedSubscriptionId() {
+        subscribe("s1", "sub-0", COMPACT);
+        subscribe("s1", "sub-0", "/topic/group/g2/compact");
+
+        assertFalse(subscriptions.isWatched(COMPACT));
+        assertTrue(subscriptions.isWatched("/topic/group/g2/compact"));
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        subscriptions.onSubscribe(new SessionSubscribeEvent(this, frame(accessor, sessionId, subscriptionId)));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        subscriptions.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(accessor, sessionId, subscriptionId)));
+    }
+
+    private void disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        subscriptions.onDisconnect(new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL));
+    }
+
+    private static Message<byte[]> frame(StompHeaderAccessor accessor, String sessionId, String subscriptionId) {
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,72 @@
+package com.app.localgroup.chat.codec;
+
+import com.app.localgroup.chat.dto.ChatMessageDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompactChatCodec - positional chat frames")
+class CompactChatCodecTests {
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("A frame parses back to the message's fields as a JSON array")
+    void roundTrip() {
+        ChatMessageDTO message = message("On my way");
+
+        List<?> fields = mapper.readValue(CompactChatCodec.encode(message), List.class);
+
+        assertEquals(List.of(CompactChatCodec.VERSION, "64f1c2a9e4b0a1b2c3d4e5f7", "bench_user", "On my way",
+                1767292200000L), fields);
+    }
+
+    @Test
+    @DisplayName("Quotes, backslashes and control characters are escaped and survive parsing")
+    void escaping() {
+        String content = "say \"hi\" \\ back\nline\ttab\r\u0001 é 😀";
+        String encoded = CompactChatCodec.encode(message(content));
+
+        assertTrue(encoded.contains("\\\"hi\\\""));
+        assertTrue(encoded.contains("\\u0001"));
+        assertFalse(encoded.contains("\n"));
+        assertEquals(content, mapper.readValue(encoded, List.class).get(3));
+    }
+
+    @Test
+    @DisplayName("Missing fields are encoded as null")
+    void nulls() {
+        ChatMessageDTO message = ChatMessageDTO.builder().senderId("u1").content("hi").timestamp(null).build();
+
+        assertEquals("[1,\"u1\",null,\"hi\",null]", CompactChatCodec.encode(message));
+        assertEquals(Arrays.asList(1, "u1", null, "hi", null), mapper.readValue(CompactChatCodec.encode(message), List.class));
+    }
+
+    @Test
+    @DisplayName("A typical frame is at least 40% smaller than the JSON frame")
+    void smallerThanJson() {
+        ChatMessageDTO message = message("Running ten minutes late, save me a seat near the window \"please\"");
+
+        int json = mapper.writeValueAsBytes(message).length;
+        int compact = CompactChatCodec.encode(message).getBytes(StandardCharsets.UTF_8).length;
+
+        assertTrue(compact <= json * 0.6, "compact " + compact + " bytes vs JSON " + json + " bytes");
+    }
+
+    private static ChatMessageDTO message(String content) {
+        return ChatMessageDTO.builder()
+                .groupId("64f1c2a9e4b0a1b2c3d4e5f6")
+                .senderId("64f1c2a9e4b0a1b2c3d4e5f7")
+                .senderUsername("bench_user")
+                .content(content)
+                .timestamp(Instant.parse("2026-01-01T18:30:00Z"))
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.app.localgroup.chat.config;
+
+import com.app.localgroup.common.Constants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ChatEncodingInterceptor - compact chat subscription negotiation")
+class ChatEncodingInterceptorTests {
+
+    private final ChatEncodingInterceptor interceptor = new ChatEncodingInterceptor();
+    private final Map<String, Object> session = new HashMap<>();
+
+    @Test
+    @DisplayName("chat-encoding on CONNECT switches every chat subscription of the session")
+    void connectLevelHeader() {
+        interceptor.preSend(frame(StompCommand.CONNECT, null, Constants.CHAT_ENCODING_COMPACT, false), null);
+
+        assertEquals("/topic/group/g1/compact", destination(subscribe("/topic/group/g1", null)));
+        assertEquals("/topic/group/g2/compact", destination(subscribe("/topic/group/g2", null)));
+    }
+
+    @Test
+    @DisplayName("chat-encoding on SUBSCRIBE switches only that subscription")
+    void subscribeLevelHeader() {
+        assertEquals("/topic/group/g1/compact", destination(subscribe("/topic/group/g1", " Compact ")));
+        assertEquals("/topic/group/g2", destination(subscribe("/topic/group/g2", null)));
+    }
+
+    @Test
+    @DisplayName("Sessions that ask for nothing, and non-chat destinations, are left alone")
+    void defaultsToJson() {
+        interceptor.preSend(frame(StompCommand.CONNECT, null, "json", false), null);
+
+        assertEquals("/topic/group/g1", destination(subscribe("/topic/group/g1", null)));
+        assertEquals("/topic/place/p1/groups", destination(subscribe("/topic/place/p1/groups", "compact")));
+        assertEquals("/topic/group/g1/compact", destination(subscribe("/topic/group/g1/compact", "compact")));
+    }
+
+    @Test
+    @DisplayName("Mutable frames are rewritten in place, so the subscribe event sees the compact destination")
+    void rewritesInPlace() {
+        Message<?> original = frame(StompCommand.SUBSCRIBE, "/topic/group/g1", "compact", true);
+
+        Message<?> result = interceptor.preSend(original, null);
+
+        assertSame(original, result);
+        assertEquals("/topic/group/g1/compact", SimpMessageHeaderAccessor.getDestination(original.getHeaders()));
+    }
+
+    private Message<?> subscribe(String destination, String encoding) {
+        return interceptor.preSend(frame(StompCommand.SUBSCRIBE, destination, encoding, false), null);
+    }
+
+    private static String destination(Message<?> message) {
+        return SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    }
+
+    private Message<?> frame(StompCommand command, String destination, String encoding, boolean mutable) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("s1");
+        accessor.setSessionAttributes(session);
+        accessor.setSubscriptionId("sub-1");
+        if (destination != null) accessor.setDestination(destination);
+        if (encoding != null) accessor.setNativeHeader(Constants.CHAT_ENCODING_HEADER, encoding);
+        accessor.setLeaveMutable(mutable);
+        MessageHeaders headers = accessor.getMessageHeaders();
+        return MessageBuilder.createMessage(new byte[0], headers);
+    }
+}
@@ -0,0 +1,57 @@
+package com.app.localgroup.common.http;
+
+import com.app.localgroup.group.event.GroupChangedEvent;
+import com.app.localgroup.group.event.GroupChangedEvent.Change;
+import com.app.localgroup.place.event.PlaceChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ReadModelVersions - ETags from change counters")
+class ReadModelVersionsTests {
+
+    private final ReadModelVersions versions = new ReadModelVersions(Duration.ZERO);
+
+    @Test
+    @DisplayName("ETags are quoted and stable while nothing changes")
+    void stableWithoutWrites() {
+        String etag = versions.placesETag();
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+        assertEquals(etag, versions.placesETag());
+        assertEquals(versions.groupsAtPlaceETag("p1"), versions.groupsAtPlaceETag("p1"));
+    }
+
+    @Test
+    @DisplayName("Membership changes only move the ETag of that place's group list")
+    void membershipChangeIsLocal() {
+        String places = versions.placesETag();
+        String p1 = versions.groupsAtPlaceETag("p1");
+        String p2 = versions.groupsAtPlaceETag("p2");
+
+        versions.onGroupChanged(new GroupChangedEvent("g1", "p1", Change.MEMBER_JOINED));
+
+        assertNotEquals(p1, versions.groupsAtPlaceETag("p1"));
+        assertEquals(p2, versions.groupsAtPlaceETag("p2"));
+        assertEquals(places, versions.placesETag());
+    }
+
+    @Test
+    @DisplayName("Group creation, status changes and place writes move the places ETag")
+    void placeCountChanges() {
+        String before = versions.placesETag();
+        versions.onGroupChanged(new GroupChangedEvent("g1", "p1", Change.CREATED));
+        String afterCreate = versions.placesETag();
+        versions.onGroupChanged(new GroupChangedEvent("g1", "p1", Change.STATUS_CHANGED));
+        String afterStatus = versions.placesETag();
+        versions.onPlaceChanged(new PlaceChangedEvent("p9"));
+
+        assertNotEquals(before, afterCreate);
+        assertNotEquals(afterCreate, afterStatus);
+        assertNotEquals(afterStatus, versions.placesETag());
+    }
+}
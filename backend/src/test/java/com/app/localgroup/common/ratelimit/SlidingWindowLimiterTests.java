@@ -0,0 +1,88 @@
+package com.app.localgroup.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SlidingWindowLimiter - per-key throttling and lockout")
+class SlidingWindowLimiterTests {
+
+    @Test
+    @DisplayName("Allows up to the limit per key, then rejects without counting")
+    void rejectsOverLimit() {
+        SlidingWindowLimiter limiter = new SlidingWindowLimiter("t", 3, 60_000, 0, 100);
+
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("b"));
+        assertEquals(1, limiter.rejectedCount());
+        assertTrue(limiter.retryAfterSeconds("a") > 0);
+    }
+
+    @Test
+    @DisplayName("Repeated failures lock the key until the lockout passes")
+    void failuresLockKey() throws InterruptedException {
+        SlidingWindowLimiter limiter = new SlidingWindowLimiter("t", 2, 200, 1_000, 100);
+
+        limiter.record("k");
+        assertFalse(limiter.isLimited("k"));
+        limiter.record("k");
+        assertTrue(limiter.isLimited("k"));
+
+        // The window has slid past both failures but the lockout still holds
+        Thread.sleep(500);
+        assertTrue(limiter.isLimited("k"));
+        assertEquals(1, limiter.lockCount());
+
+        limiter.reset("k");
+        assertFalse(limiter.isLimited("k"));
+    }
+
+    @Test
+    @DisplayName("A flood of distinct keys never grows past max-keys")
+    void keyTableIsCapped() {
+        SlidingWindowLimiter limiter = new SlidingWindowLimiter("t", 1, 60_000, 0, 1_000);
+        for (int i = 0; i < 50_000; i++) {
+            limiter.tryAcquire("ip-" + i);
+        }
+        assertTrue(limiter.trackedKeys() <= 1_000);
+    }
+
+    @Test
+    @DisplayName("With the key table full, new keys share one overflow window instead of going untracked")
+    void fullTableFailsClosed() {
+        SlidingWindowLimiter limiter = new SlidingWindowLimiter("t", 3, 60_000, 60_000, 2);
+        assertTrue(limiter.tryAcquire("tracked-1"));
+        assertTrue(limiter.tryAcquire("tracked-2"));
+
+        // A flood of distinct keys exhausts the shared window...
+        assertTrue(limiter.tryAcquire("flood-1"));
+        assertTrue(limiter.tryAcquire("flood-2"));
+        assertTrue(limiter.tryAcquire("flood-3"));
+        assertFalse(limiter.tryAcquire("flood-4"));
+        assertEquals(2, limiter.trackedKeys());
+        assertEquals(4, limiter.overflowCount());
+
+        // ...so a victim's failures during the flood still lock, rather than being ignored
+        limiter.record("victim");
+        assertTrue(limiter.isLimited("victim"));
+        assertTrue(limiter.retryAfterSeconds("victim") > 0);
+
+        // Keys tracked before the flood keep their own windows
+        assertTrue(limiter.tryAcquire("tracked-1"));
+        assertFalse(limiter.isLimited("tracked-2"));
+    }
+
+    @Test
+    @DisplayName("Null keys (e.g. unknown client IP) are never limited")
+    void nullKeyIsIgnored() {
+        SlidingWindowLimiter limiter = new SlidingWindowLimiter("t", 1, 60_000, 60_000, 10);
+        assertTrue(limiter.tryAcquire(null));
+        assertTrue(limiter.tryAcquire(null));
+        limiter.record(null);
+        assertFalse(limiter.isLimited(null));
+    }
+}
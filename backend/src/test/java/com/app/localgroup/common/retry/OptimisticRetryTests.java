@@ -0,0 +1,57 @@
+package com.app.localgroup.common.retry;
+
+import com.app.localgroup.metrics.MetricsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OptimisticRetry - bounded retry of version conflicts")
+class OptimisticRetryTests {
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final OptimisticRetry retry = new OptimisticRetry(metrics, 3, 0);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    @DisplayName("A conflicting write is re-run until it succeeds")
+    void retriesUntilSuccess() {
+        String result = retry.run("op", attempt -> {
+            calls.incrementAndGet();
+            if (attempt < 3) throw new OptimisticLockingFailureException("version changed");
+            return "saved";
+        });
+
+        assertEquals("saved", result);
+        assertEquals(3, calls.get());
+        assertEquals(2, metrics.gauge("optimistic-locking", "op.conflicts").get());
+        assertEquals(3, metrics.histogram("optimistic-locking", "op.attempts").max());
+    }
+
+    @Test
+    @DisplayName("After the last attempt the conflict is rethrown and counted")
+    void givesUp() {
+        assertThrows(OptimisticLockingFailureException.class, () -> retry.run("op", () -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("version changed");
+        }));
+
+        assertEquals(3, calls.get());
+        assertEquals(1, metrics.gauge("optimistic-locking", "op.exhausted").get());
+    }
+
+    @Test
+    @DisplayName("Other failures are not retried")
+    void otherExceptionsPropagate() {
+        assertThrows(IllegalStateException.class, () -> retry.run("op", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("Not a member");
+        }));
+
+        assertEquals(1, calls.get());
+        assertEquals(0, metrics.gauge("optimistic-locking", "op.conflicts").get());
+    }
+}
@@ -0,0 +1,79 @@
+package com.app.localgroup.config.jwt;
+
+import com.app.localgroup.user.model.Gender;
+import com.app.localgroup.user.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtUtil's cached parser and verified-token cache.
+ * Per-call cost is measured by JwtUtilBenchmark in the benchmarks module.
+ */
+@DisplayName("JwtUtil - cached verification")
+class JwtUtilTests {
+
+    private static final String SECRET = "test-secret-key-at-least-32-bytes-long!!";
+
+    private final User user = User.builder().id("user-1").email("a@test.com").phone("+100").build();
+
+    @Test
+    @DisplayName("Issued token round-trips and repeat parses are served from the cache")
+    void issuedTokenIsCachedAfterFirstVerification() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 100);
+        String token = jwtUtil.issueToken(user);
+
+        Claims first = jwtUtil.parseClaims(token);
+        Claims second = jwtUtil.parseClaims(token);
+
+        assertEquals("user-1", first.getSubject());
+        assertEquals("a@test.com", first.get("email"));
+        assertSame(first, second);
+        assertEquals(1, jwtUtil.verifiedTokenCache().hits());
+    }
+
+    @Test
+    @DisplayName("Identity claims reflect profile completeness")
+    void identityClaimsRoundTrip() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 100);
+        User complete = User.builder().id("user-2").email("b@test.com").phone("+200")
+                .username("bee").age(30).gender(Gender.FEMALE).build();
+
+        TokenIdentity fresh = TokenIdentity.fromClaims(jwtUtil.parseClaims(jwtUtil.issueToken(user)));
+        TokenIdentity full = TokenIdentity.fromClaims(jwtUtil.parseClaims(jwtUtil.issueToken(complete)));
+
+        assertFalse(fresh.profileComplete());
+        assertNull(fresh.username());
+        assertTrue(full.profileComplete());
+        assertEquals("bee", full.username());
+        assertEquals(Gender.FEMALE, full.gender());
+        assertEquals("user-2", full.userId());
+    }
+
+    @Test
+    @DisplayName("Tampered tokens are rejected even when the original is cached")
+    void tamperedTokenIsRejected() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 100);
+        String token = jwtUtil.issueToken(user);
+        jwtUtil.parseClaims(token);
+
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+        assertThrows(JwtException.class, () -> jwtUtil.parseClaims(tampered));
+    }
+
+    @Test
+    @DisplayName("Cached claims are not served past the token's expiry")
+    void cacheHonoursExpiry() throws InterruptedException {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 1_000, 100);
+        String token = jwtUtil.issueToken(user);
+        jwtUtil.parseClaims(token);
+
+        Thread.sleep(1_500);
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseClaims(token));
+    }
+}
@@ -0,0 +1,167 @@
+package com.app.localgroup.group;
+
+import com.app.localgroup.common.Constants;
+import com.app.localgroup.config.jwt.JwtUtil;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.model.GroupSummary;
+import com.app.localgroup.group.summary.GroupSummaryProjector;
+import com.app.localgroup.metrics.MetricsRegistry;
+import com.app.localgroup.metrics.query.QueryLog;
+import com.app.localgroup.metrics.query.QueryLogFilter;
+import com.app.localgroup.place.model.Place;
+import com.app.localgroup.support.MongoStandIn;
+import com.app.localgroup.support.QueryBudget;
+import com.app.localgroup.user.model.User;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets of the group listing endpoints, through the full servlet
+ * stack (security and QueryLogFilter included) against the Mongo stand-in.
+ * Several groups are seeded so a per-group lookup shows up as a repeated shape.
+ */
+@SpringBootTest(properties = {
+        "app.query-log.enabled=true",
+        "app.query-log.log-sample-rate=0",
+        "logging.level.com.app.localgroup=WARN"
+})
+@DisplayName("Group endpoints - query budgets")
+class GroupEndpointQueryBudgetTests {
+
+    private static final int GROUPS = 3;
+
+    @BeforeAll
+    static void requireMongo() {
+        assumeTrue(MongoStandIn.isAvailable(), "No Docker or TEST_MONGODB_URI; skipping group endpoint query budget tests");
+    }
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        String uri = MongoStandIn.connectionString("group_query_budget_tests");
+        registry.add("spring.mongodb.uri", () -> uri);
+        registry.add("spring.data.mongodb.uri", () -> uri);
+    }
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private QueryLogFilter queryLogFilter;
+
+    @Autowired
+    @Qualifier("springSecurityFilterChain")
+    private Filter securityFilter;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private GroupSummaryProjector groupSummaryProjector;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MetricsRegistry metrics;
+
+    private MockMvc mockMvc;
+    private String placeId;
+    private String token;
+
+    @BeforeEach
+    void seed() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(queryLogFilter, securityFilter).build();
+
+        mongoTemplate.dropCollection(Place.class);
+        mongoTemplate.dropCollection(Group.class);
+        mongoTemplate.dropCollection(GroupMember.class);
+        mongoTemplate.dropCollection(GroupSummary.class);
+        mongoTemplate.dropCollection(User.class);
+
+        placeId = mongoTemplate.save(Place.builder()
+                .name("Budget Cafe")
+                .category(Place.Category.CAFE)
+                .geoLocation(new GeoJsonPoint(77.59, 12.97))
+                .build()).getId();
+
+        User me = mongoTemplate.save(User.builder().id("budget-me").username("budget_me").build());
+        for (int g = 0; g < GROUPS; g++) {
+            String creator = "budget-creator-" + g;
+            mongoTemplate.save(User.builder().id(creator).username("budget_creator_" + g).build());
+            Group group = mongoTemplate.save(Group.builder()
+                    .placeId(placeId)
+                    .creatorId(creator)
+                    .dateTime(Instant.now().plus(1, ChronoUnit.DAYS))
+                    .maxSize(4)
+                    .memberCount(2)
+                    .visibility(Group.Visibility.PUBLIC)
+                    .status(Group.Status.JOINABLE)
+                    .build());
+            mongoTemplate.save(GroupMember.builder().groupId(group.getId()).userId(creator).confirmed(true).build());
+            mongoTemplate.save(GroupMember.builder().groupId(group.getId()).userId(me.getId()).build());
+        }
+        // Seeded behind the services' back, so build the listing read model explicitly
+        groupSummaryProjector.reconcile();
+        token = Constants.TOKEN_PREFIX + jwtUtil.issueToken(me);
+    }
+
+    @Test
+    @DisplayName("GET /groups/me issues at most 4 queries and no per-group lookups")
+    void myGroups() {
+        QueryLog log = QueryBudget.record("GET /groups/me", () -> mockMvc
+                .perform(get("/groups/me").header(Constants.AUTH_HEADER, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(GROUPS)));
+
+        QueryBudget.assertAtMost(4, log);
+        QueryBudget.assertNoRepeatedShapes(GROUPS, log);
+    }
+
+    @Test
+    @DisplayName("GET /groups/place/{placeId} issues at most 4 queries and no per-group lookups")
+    void groupsAtPlace() {
+        QueryLog log = QueryBudget.record("GET /groups/place/{placeId}", () -> mockMvc
+                .perform(get("/groups/place/" + placeId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(GROUPS)));
+
+        QueryBudget.assertAtMost(4, log);
+        QueryBudget.assertNoRepeatedShapes(GROUPS, log);
+    }
+
+    @Test
+    @DisplayName("Without an outer scope, QueryLogFilter opens and reports one log per request")
+    void filterReportsEachRequest() throws Exception {
+        long inspected = metrics.gauge("query-log", "inspected").get();
+        long offenders = metrics.gauge("query-log", "offenders").get();
+
+        mockMvc.perform(get("/groups/me").header(Constants.AUTH_HEADER, token)).andExpect(status().isOk());
+        mockMvc.perform(get("/groups/place/" + placeId)).andExpect(status().isOk());
+
+        assertEquals(inspected + 2, metrics.gauge("query-log", "inspected").get());
+        assertEquals(offenders, metrics.gauge("query-log", "offenders").get());
+    }
+}
@@ -0,0 +1,128 @@
+package com.app.localgroup.group;
+
+import com.app.localgroup.common.retry.OptimisticRetry;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.repository.GroupMemberRepository;
+import com.app.localgroup.group.repository.GroupRepository;
+import com.app.localgroup.metrics.MetricsRegistry;
+import com.app.localgroup.support.MongoStandIn;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * JOINABLE -> CONFIRMATION with a seat taken but no member document yet,
+ * against the local Mongo stand-in. Only groups inside the confirmation
+ * window are seeded, so no trust adjustments (and no UserService) are needed.
+ */
+@DisplayName("GroupLifecycleScheduler - confirmation waits for in-flight joins")
+class GroupLifecycleSchedulerTests {
+
+    private static MongoClient client;
+    private static MongoTemplate template;
+
+    private GroupRepository groups;
+    private GroupMemberRepository members;
+    private GroupLifecycleScheduler scheduler;
+
+    @BeforeAll
+    static void connect() {
+        assumeTrue(MongoStandIn.isAvailable(), "No Docker or TEST_MONGODB_URI; skipping group lifecycle scheduler tests");
+        client = MongoClients.create(MongoStandIn.connectionString("group_lifecycle_tests"));
+        template = new MongoTemplate(client, "group_lifecycle_tests");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (client != null) client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        template.dropCollection(Group.class);
+        template.dropCollection(GroupMember.class);
+
+        MongoRepositoryFactory factory = new MongoRepositoryFactory(template);
+        groups = factory.getRepository(GroupRepository.class);
+        members = factory.getRepository(GroupMemberRepository.class);
+        MetricsRegistry metrics = new MetricsRegistry();
+        scheduler = new GroupLifecycleScheduler(groups, members, null, metrics,
+                new OptimisticRetry(metrics, 3, 0), event -> { });
+        ReflectionTestUtils.setField(scheduler, "confirmationWindowHours", 24L);
+        ReflectionTestUtils.setField(scheduler, "expireBufferMinutes", 30L);
+    }
+
+    @Test
+    @DisplayName("A join that lands after a deferred tick is part of the confirmation snapshot")
+    void inFlightJoinIsIncluded() {
+        Group g = groups.save(dueGroup());
+        members.save(GroupMember.builder().groupId(g.getId()).userId("u1").build());
+        assertEquals(1, groups.reserveSeat(g.getId()));
+
+        scheduler.run();
+        assertEquals(Group.Status.JOINABLE, groups.findById(g.getId()).orElseThrow().getStatus());
+
+        members.save(GroupMember.builder().groupId(g.getId()).userId("u2").build());
+        groups.touch(g.getId());
+        scheduler.run();
+
+        Group confirmed = groups.findById(g.getId()).orElseThrow();
+        assertEquals(Group.Status.CONFIRMATION, confirmed.getStatus());
+        assertEquals(2, confirmed.getMemberCount());
+        assertEquals(List.of("u1", "u2"), confirmed.getConfirmationEligibleUserIds());
+    }
+
+    @Test
+    @DisplayName("A seat whose member never appears is given back on the next tick")
+    void deadJoinSeatIsReleased() {
+        Group g = groups.save(dueGroup());
+        members.save(GroupMember.builder().groupId(g.getId()).userId("u1").build());
+        assertEquals(1, groups.reserveSeat(g.getId()));
+
+        scheduler.run();
+        assertEquals(Group.Status.JOINABLE, groups.findById(g.getId()).orElseThrow().getStatus());
+        scheduler.run();
+
+        Group confirmed = groups.findById(g.getId()).orElseThrow();
+        assertEquals(Group.Status.CONFIRMATION, confirmed.getStatus());
+        assertEquals(1, confirmed.getMemberCount());
+        assertEquals(List.of("u1"), confirmed.getConfirmationEligibleUserIds());
+    }
+
+    @Test
+    @DisplayName("Groups whose seats all have members are confirmed on the first tick")
+    void settledGroupConfirmsImmediately() {
+        Group g = groups.save(dueGroup());
+        members.save(GroupMember.builder().groupId(g.getId()).userId("u1").build());
+
+        scheduler.run();
+
+        assertEquals(Group.Status.CONFIRMATION, groups.findById(g.getId()).orElseThrow().getStatus());
+    }
+
+    private static Group dueGroup() {
+        return Group.builder()
+                .placeId("p1").creatorId("u1")
+                .dateTime(Instant.now().plus(2, ChronoUnit.HOURS))
+                .maxSize(4)
+                .memberCount(1)
+                .visibility(Group.Visibility.PUBLIC)
+                .status(Group.Status.JOINABLE)
+                .build();
+    }
+}
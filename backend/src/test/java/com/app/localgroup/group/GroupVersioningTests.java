@@ -0,0 +1,151 @@
+package com.app.localgroup.group;
+
+import com.app.localgroup.config.MongoConfig;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.repository.GroupMemberRepository;
+import com.app.localgroup.group.repository.GroupRepository;
+import com.app.localgroup.support.MongoStandIn;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @Version on Group / GroupMember, the guarded seat counter and the MongoConfig
+ * backfills, against the local Mongo stand-in.
+ */
+@DisplayName("Group versioning - stale writes conflict, joins take seats atomically")
+class GroupVersioningTests {
+
+    private static MongoClient client;
+    private static MongoTemplate template;
+
+    private GroupRepository groups;
+    private GroupMemberRepository members;
+
+    @BeforeAll
+    static void connect() {
+        assumeTrue(MongoStandIn.isAvailable(), "No Docker or TEST_MONGODB_URI; skipping group versioning tests");
+        client = MongoClients.create(MongoStandIn.connectionString("group_versioning_tests"));
+        template = new MongoTemplate(client, "group_versioning_tests");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (client != null) client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        template.dropCollection(Group.class);
+        template.dropCollection(GroupMember.class);
+
+        MongoRepositoryFactory factory = new MongoRepositoryFactory(template);
+        groups = factory.getRepository(GroupRepository.class);
+        members = factory.getRepository(GroupMemberRepository.class);
+    }
+
+    @Test
+    @DisplayName("Saving a stale Group copy throws OptimisticLockingFailureException")
+    void staleGroupSaveConflicts() {
+        Group saved = groups.save(group(4, 1));
+        Group first = groups.findById(saved.getId()).orElseThrow();
+        Group second = groups.findById(saved.getId()).orElseThrow();
+
+        first.setInviteCodeHash("first");
+        groups.save(first);
+        second.setInviteCodeHash("second");
+
+        assertThrows(OptimisticLockingFailureException.class, () -> groups.save(second));
+        assertEquals("first", groups.findById(saved.getId()).orElseThrow().getInviteCodeHash());
+    }
+
+    @Test
+    @DisplayName("Deleting a stale GroupMember copy throws OptimisticLockingFailureException")
+    void staleMemberDeleteConflicts() {
+        GroupMember saved = members.save(GroupMember.builder().groupId("g1").userId("u1").build());
+        GroupMember stale = members.findById(saved.getId()).orElseThrow();
+
+        GroupMember confirmed = members.findById(saved.getId()).orElseThrow();
+        confirmed.setConfirmed(true);
+        members.save(confirmed);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> members.delete(stale));
+        assertTrue(members.existsById(saved.getId()));
+    }
+
+    @Test
+    @DisplayName("A seat is only taken while JOINABLE and below maxSize, and bumps the version")
+    void reserveSeatIsGuarded() {
+        Group g = groups.save(group(2, 1));
+        Group before = groups.findById(g.getId()).orElseThrow();
+
+        assertEquals(1, groups.reserveSeat(g.getId()));
+        assertEquals(0, groups.reserveSeat(g.getId()), "group is full");
+
+        Group full = groups.findById(g.getId()).orElseThrow();
+        assertEquals(2, full.getMemberCount());
+        // An update built from the copy read before the join must not win
+        before.setMaxSize(1);
+        assertThrows(OptimisticLockingFailureException.class, () -> groups.save(before));
+
+        full.setStatus(Group.Status.CONFIRMATION);
+        groups.save(full);
+        assertEquals(1, groups.releaseSeat(g.getId()));
+        assertEquals(0, groups.reserveSeat(g.getId()), "group is no longer joinable");
+    }
+
+    @Test
+    @DisplayName("MongoConfig backfills version and memberCount on documents written before they existed")
+    void backfillMakesLegacyDocumentsSavable() {
+        template.getCollection("groups").insertOne(new Document("_id", "legacy")
+                .append("placeId", "p1")
+                .append("creatorId", "u1")
+                .append("dateTime", Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+                .append("maxSize", 4)
+                .append("status", "JOINABLE"));
+        template.getCollection("group_members").insertOne(new Document("groupId", "legacy").append("userId", "u1"));
+        template.getCollection("group_members").insertOne(new Document("groupId", "legacy").append("userId", "u2"));
+
+        new MongoConfig(template).initIndices();
+
+        Group legacy = groups.findById("legacy").orElseThrow();
+        assertNotNull(legacy.getVersion());
+        assertEquals(2, legacy.getMemberCount());
+        legacy.setInviteCodeHash("renamed");
+        groups.save(legacy);
+        assertEquals("renamed", groups.findById("legacy").orElseThrow().getInviteCodeHash());
+
+        GroupMember member = members.findByGroupId("legacy").get(0);
+        assertNotNull(member.getVersion());
+        member.setConfirmed(true);
+        members.save(member);
+        assertEquals(2, members.count());
+    }
+
+    private static Group group(int maxSize, int memberCount) {
+        return Group.builder()
+                .placeId("p1").creatorId("u1")
+                .dateTime(Instant.now().plus(1, ChronoUnit.DAYS))
+                .maxSize(maxSize)
+                .memberCount(memberCount)
+                .visibility(Group.Visibility.PUBLIC)
+                .status(Group.Status.JOINABLE)
+                .build();
+    }
+}
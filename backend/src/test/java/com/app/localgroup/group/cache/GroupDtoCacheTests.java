@@ -0,0 +1,98 @@
+package com.app.localgroup.group.cache;
+
+import com.app.localgroup.group.dto.GroupDto;
+import com.app.localgroup.group.event.GroupChangedEvent;
+import com.app.localgroup.group.model.Group;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GroupDtoCache - versioned group DTOs with per-user confirmed flag")
+class GroupDtoCacheTests {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final GroupDtoCache cache = new GroupDtoCache(100, 60_000);
+
+    private Function<String, GroupDtoCache.Loaded> loader(int maxSize) {
+        return groupId -> {
+            loads.incrementAndGet();
+            GroupDto dto = GroupDto.builder().id(groupId).maxSize(maxSize).status(Group.Status.JOINABLE).build();
+            return new GroupDtoCache.Loaded(dto, Set.of("u1"));
+        };
+    }
+
+    @Test
+    @DisplayName("Repeated reads of an unchanged group load it once")
+    void repeatedReadsHitTheCache() {
+        for (int i = 0; i < 5; i++) cache.get("g1", "u2", loader(4));
+
+        assertEquals(1, loads.get());
+        assertEquals(4, cache.cache().hits());
+    }
+
+    @Test
+    @DisplayName("The confirmed flag is computed for each caller, never shared")
+    void confirmedIsPerUser() {
+        assertTrue(cache.get("g1", "u1", loader(4)).isConfirmed());
+        assertFalse(cache.get("g1", "u2", loader(4)).isConfirmed());
+        assertFalse(cache.get("g1", null, loader(4)).isConfirmed());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("A group change event makes the next read rebuild the DTO")
+    void changeInvalidates() {
+        cache.get("g1", null, loader(4));
+        cache.onGroupChanged(new GroupChangedEvent("g1", "p1", GroupChangedEvent.Change.UPDATED));
+
+        assertEquals(6, cache.get("g1", null, loader(6)).getMaxSize());
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.version("g1"));
+        assertEquals(0, cache.version("g2"));
+    }
+
+    @Test
+    @DisplayName("A load that raced a write is not served after the write")
+    void racingLoadIsStale() {
+        // The write lands while the first read is still building its DTO
+        GroupDto first = cache.get("g1", null, groupId -> {
+            cache.bump(groupId);
+            return loader(4).apply(groupId);
+        });
+        GroupDto second = cache.get("g1", null, loader(6));
+
+        assertEquals(4, first.getMaxSize());
+        assertEquals(6, second.getMaxSize());
+        assertEquals(1, cache.staleReadCount());
+    }
+
+    @Test
+    @DisplayName("Change records older than two TTLs are dropped without serving stale entries")
+    void changeRecordsArePruned() throws InterruptedException {
+        GroupDtoCache shortLived = new GroupDtoCache(100, 20);
+        for (int i = 0; i < 50; i++) shortLived.bump("g" + i);
+
+        Thread.sleep(25);
+        shortLived.bump("x");   // checkpoint
+        Thread.sleep(25);
+        shortLived.bump("y");   // drops everything up to the checkpoint
+
+        assertEquals(1, shortLived.trackedGroupCount());
+        assertTrue(shortLived.version("g0") >= 50, "pruned groups fall back to the floor");
+        // The next read rebuilds g0 from the loader
+        assertEquals(6, shortLived.get("g0", null, loader(6)).getMaxSize());
+    }
+
+    @Test
+    @DisplayName("Callers get copies; changing one does not touch the cached entry")
+    void returnsCopies() {
+        cache.get("g1", null, loader(4)).setMaxSize(99);
+
+        assertEquals(4, cache.get("g1", null, loader(4)).getMaxSize());
+    }
+}
@@ -0,0 +1,74 @@
+package com.app.localgroup.group.invite;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InviteTokenService - signed, expiring invite tokens")
+class InviteTokenServiceTests {
+
+    private final InviteTokenService service =
+            new InviteTokenService("", "test-secret-key-at-least-32-bytes-long!!", Duration.ofHours(1));
+
+    @Test
+    @DisplayName("An issued token verifies only for its own group")
+    void tokenIsBoundToGroup() {
+        String token = service.issue("group-1", null).token();
+
+        assertTrue(InviteTokenService.isSignedToken(token));
+        assertEquals(InviteTokenStatus.VALID, service.verify("group-1", token));
+        assertEquals(InviteTokenStatus.INVALID, service.verify("group-2", token));
+    }
+
+    @Test
+    @DisplayName("Tampered or malformed tokens are invalid")
+    void tamperedTokenIsInvalid() {
+        String token = service.issue("group-1", null).token();
+        String[] parts = token.split("\\.");
+        String extended = parts[0] + "." + (Long.parseLong(parts[1]) + 3600) + "." + parts[2];
+
+        assertEquals(InviteTokenStatus.INVALID, service.verify("group-1", extended));
+        assertEquals(InviteTokenStatus.INVALID, service.verify("group-1", "v1.abc.def"));
+        assertEquals(InviteTokenStatus.INVALID, service.verify("group-1", "v1."));
+        assertEquals(InviteTokenStatus.INVALID, service.verify("group-1", "plain-code"));
+    }
+
+    @Test
+    @DisplayName("Only well-formed tokens take the token path; other v1. codes are legacy codes")
+    void shapeDecidesThePath() {
+        assertTrue(InviteTokenService.isSignedToken(service.issue("group-1", null).token()));
+        assertFalse(InviteTokenService.isSignedToken("v1.abc.def"));
+        assertFalse(InviteTokenService.isSignedToken("v1.party-2026"));
+        assertFalse(InviteTokenService.isSignedToken("plain-code"));
+        assertFalse(InviteTokenService.isSignedToken(null));
+    }
+
+    @Test
+    @DisplayName("Without app.invite.secret the key is derived, not the JWT secret itself")
+    void keyIsDerivedFromJwtSecret() {
+        String jwtSecret = "test-secret-key-at-least-32-bytes-long!!";
+        InviteTokenService explicitJwtKey = new InviteTokenService(jwtSecret, "other-jwt-secret", Duration.ofHours(1));
+        InviteTokenService separate = new InviteTokenService("separate-invite-secret", jwtSecret, Duration.ofHours(1));
+        String token = service.issue("group-1", null).token();
+
+        assertEquals(InviteTokenStatus.INVALID, explicitJwtKey.verify("group-1", token));
+        assertEquals(InviteTokenStatus.INVALID, separate.verify("group-1", token));
+        assertEquals(InviteTokenStatus.VALID,
+                new InviteTokenService(null, jwtSecret, Duration.ofHours(1)).verify("group-1", token));
+    }
+
+    @Test
+    @DisplayName("Tokens expire at the earlier of the TTL and the meetup time")
+    void expiryIsCappedByMeetupTime() {
+        InviteTokenService.InviteToken past = service.issue("group-1", Instant.now().minusSeconds(5));
+        InviteTokenService.InviteToken capped = service.issue("group-1", Instant.now().plusSeconds(60));
+
+        assertEquals(InviteTokenStatus.EXPIRED, service.verify("group-1", past.token()));
+        assertTrue(capped.expiresAt().isBefore(Instant.now().plusSeconds(61)));
+        assertEquals(InviteTokenStatus.VALID, service.verify("group-1", capped.token()));
+    }
+}
@@ -0,0 +1,108 @@
+package com.app.localgroup.group.live;
+
+import com.app.localgroup.group.event.GroupChangedEvent;
+import com.app.localgroup.group.event.GroupChangedEvent.Change;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.repository.GroupMemberRepository;
+import com.app.localgroup.group.repository.GroupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GroupStatePublisher - state deltas on the group topic and user queues")
+class GroupStatePublisherTests {
+
+    private final List<Message<?>> sent = new ArrayList<>();
+    private final SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+
+    private final Group group = Group.builder()
+            .id("g1").placeId("p1").creatorId("u1")
+            .maxSize(4)
+            .status(Group.Status.JOINABLE)
+            .visibility(Group.Visibility.PUBLIC)
+            .build();
+
+    private final List<GroupMember> members = new ArrayList<>(List.of(
+            GroupMember.builder().groupId("g1").userId("u1").confirmed(true).build(),
+            GroupMember.builder().groupId("g1").userId("u2").confirmed(false).build()));
+
+    @Test
+    @DisplayName("Topic delta carries the same counts as GroupDto")
+    void topicDelta() {
+        publisher(false).onGroupChanged(new GroupChangedEvent("g1", "p1", Change.MEMBER_JOINED, "u2"));
+
+        GroupStateDelta delta = (GroupStateDelta) byDestination().get("/topic/group/g1/state");
+        assertNotNull(delta);
+        assertEquals(Change.MEMBER_JOINED, delta.change());
+        assertEquals(Group.Status.JOINABLE, delta.status());
+        assertEquals(2, delta.memberCount());
+        assertEquals(4, delta.maxSize());
+        assertEquals(2, delta.confirmationEligibleCount());
+        assertEquals(1, delta.confirmationConfirmedCount());
+    }
+
+    @Test
+    @DisplayName("Every member and the user who left get their own membership")
+    void userQueues() {
+        publisher(false).onGroupChanged(new GroupChangedEvent("g1", "p1", Change.MEMBER_LEFT, "u3"));
+
+        Map<String, Object> out = byDestination();
+        MemberGroupDelta creator = (MemberGroupDelta) out.get("/user/u1/queue/groups");
+        MemberGroupDelta member = (MemberGroupDelta) out.get("/user/u2/queue/groups");
+        MemberGroupDelta leaver = (MemberGroupDelta) out.get("/user/u3/queue/groups");
+
+        assertTrue(creator.member() && creator.confirmed());
+        assertTrue(member.member() && !member.confirmed());
+        assertFalse(leaver.member());
+        assertEquals(4, out.size());
+    }
+
+    @Test
+    @DisplayName("A failed push never fails the write that triggered it")
+    void failuresAreSwallowed() {
+        assertDoesNotThrow(() -> publisher(true)
+                .onGroupChanged(new GroupChangedEvent("g1", "p1", Change.UPDATED)));
+        assertTrue(sent.isEmpty());
+    }
+
+    private Map<String, Object> byDestination() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (Message<?> m : sent) {
+            out.put(SimpMessageHeaderAccessor.getDestination(m.getHeaders()), m.getPayload());
+        }
+        return out;
+    }
+
+    private GroupStatePublisher publisher(boolean failing) {
+        GroupRepository groups = (GroupRepository) Proxy.newProxyInstance(
+                GroupRepository.class.getClassLoader(),
+                new Class<?>[] { GroupRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> {
+                        if (failing) throw new IllegalStateException("database unavailable");
+                        yield Optional.of(group).filter(g -> g.getId().equals(args[0]));
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        GroupMemberRepository groupMembers = (GroupMemberRepository) Proxy.newProxyInstance(
+                GroupMemberRepository.class.getClassLoader(),
+                new Class<?>[] { GroupMemberRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByGroupId" -> members;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return new GroupStatePublisher(groups, groupMembers, template);
+    }
+}
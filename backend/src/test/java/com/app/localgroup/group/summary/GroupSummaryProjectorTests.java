@@ -0,0 +1,69 @@
+package com.app.localgroup.group.summary;
+
+import com.app.localgroup.group.GroupService;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.model.GroupSummary;
+import com.app.localgroup.place.model.Place;
+import com.app.localgroup.user.cache.UserSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GroupSummaryProjector - listing read model matches the full group DTO")
+class GroupSummaryProjectorTests {
+
+    private final Place place = Place.builder().id("p1").name("Corner Cafe").category(Place.Category.CAFE).build();
+
+    private final List<GroupMember> members = List.of(
+            GroupMember.builder().groupId("g1").userId("u1").confirmed(true).build(),
+            GroupMember.builder().groupId("g1").userId("u2").confirmed(false).build(),
+            GroupMember.builder().groupId("g1").userId("u3").confirmed(true).build());
+
+    private final Map<String, UserSnapshot> users = Map.of(
+            "u1", new UserSnapshot("u1", "asha", 27, null, 80, 5),
+            "u2", new UserSnapshot("u2", "ravi", 31, null, 60, 2),
+            "u3", new UserSnapshot("u3", "meera", 24, null, 70, 3));
+
+    @Test
+    @DisplayName("fromSummary(project(...)) equals assemble(...) in every status")
+    void summaryDtoMatchesAssembledDto() {
+        for (Group.Status status : Group.Status.values()) {
+            Group g = group(status);
+            GroupSummary summary = GroupSummaryProjector.project(g, members, place);
+
+            for (String userId : new String[] { null, "u1", "u2", "stranger" }) {
+                assertEquals(GroupService.assemble(g, userId, members, place, users),
+                        GroupService.fromSummary(summary, userId, users), status + " as " + userId);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A group without a place projects empty place fields")
+    void missingPlace() {
+        GroupSummary summary = GroupSummaryProjector.project(group(Group.Status.JOINABLE), members, null);
+
+        assertNull(summary.getPlaceName());
+        assertNull(summary.getPlaceCategory());
+        assertEquals(List.of("u1", "u2", "u3"), summary.getMemberUserIds());
+        assertEquals(List.of("u1", "u3"), summary.getConfirmedUserIds());
+    }
+
+    private Group group(Group.Status status) {
+        return Group.builder()
+                .id("g1").placeId("p1").creatorId("u1")
+                .dateTime(Instant.now().plus(1, ChronoUnit.DAYS))
+                .createdAt(Instant.now())
+                .maxSize(6)
+                .status(status)
+                .visibility(Group.Visibility.PUBLIC)
+                .build();
+    }
+}
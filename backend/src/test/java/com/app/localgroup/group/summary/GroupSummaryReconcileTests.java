@@ -0,0 +1,172 @@
+package com.app.localgroup.group.summary;
+
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.model.GroupSummary;
+import com.app.localgroup.group.repository.GroupMemberRepository;
+import com.app.localgroup.group.repository.GroupRepository;
+import com.app.localgroup.group.repository.GroupSummaryRepository;
+import com.app.localgroup.metrics.MetricsRegistry;
+import com.app.localgroup.place.model.Place;
+import com.app.localgroup.place.repository.PlaceRepository;
+import com.app.localgroup.support.MongoStandIn;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * GroupSummaryProjector#reconcile against the local Mongo stand-in.
+ */
+@DisplayName("GroupSummaryProjector - batched reconcile of the group_summaries read model")
+class GroupSummaryReconcileTests {
+
+    private static MongoClient client;
+    private static MongoTemplate template;
+
+    private GroupRepository groups;
+    private GroupMemberRepository members;
+    private GroupSummaryRepository summaries;
+    private GroupSummaryProjector projector;
+
+    // Run once, right after reconcile has read a batch's members / a refresh has read one group's
+    private Runnable afterMemberRead;
+    private Runnable afterGroupMembersRead;
+
+    @BeforeAll
+    static void connect() {
+        assumeTrue(MongoStandIn.isAvailable(), "No Docker or TEST_MONGODB_URI; skipping group summary reconcile tests");
+        client = MongoClients.create(MongoStandIn.connectionString("group_summary_tests"));
+        template = new MongoTemplate(client, "group_summary_tests");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (client != null) client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        template.dropCollection(Group.class);
+        template.dropCollection(GroupMember.class);
+        template.dropCollection(GroupSummary.class);
+        template.dropCollection(Place.class);
+
+        MongoRepositoryFactory factory = new MongoRepositoryFactory(template);
+        groups = factory.getRepository(GroupRepository.class);
+        summaries = factory.getRepository(GroupSummaryRepository.class);
+        GroupMemberRepository realMembers = factory.getRepository(GroupMemberRepository.class);
+        members = (GroupMemberRepository) Proxy.newProxyInstance(
+                GroupMemberRepository.class.getClassLoader(),
+                new Class<?>[] { GroupMemberRepository.class },
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(realMembers, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("findByGroupIdIn") && afterMemberRead != null) {
+                        Runnable hook = afterMemberRead;
+                        afterMemberRead = null;
+                        hook.run();
+                    }
+                    if (method.getName().equals("findByGroupId") && afterGroupMembersRead != null) {
+                        Runnable hook = afterGroupMembersRead;
+                        afterGroupMembersRead = null;
+                        hook.run();
+                    }
+                    return result;
+                });
+        projector = new GroupSummaryProjector(groups, members, factory.getRepository(PlaceRepository.class),
+                summaries, template, new MetricsRegistry());
+    }
+
+    @Test
+    @DisplayName("Builds missing summaries and removes orphans across several batches")
+    void buildsAndRemovesAcrossBatches() {
+        List<Group> seeded = new ArrayList<>();
+        for (int i = 0; i < 1_100; i++) seeded.add(group());
+        template.insertAll(seeded);
+        summaries.save(GroupSummary.builder().id("gone").placeId("p1").build());
+
+        GroupSummaryProjector.Report first = projector.reconcile();
+
+        assertEquals(new GroupSummaryProjector.Report(1_100, 1_100, 1), first);
+        assertEquals(1_100, summaries.count());
+        assertFalse(summaries.existsById("gone"));
+        assertEquals(new GroupSummaryProjector.Report(1_100, 0, 0), projector.reconcile());
+    }
+
+    @Test
+    @DisplayName("A summary refreshed by an event mid-reconcile is not reverted")
+    void concurrentRefreshIsKept() {
+        Group g = groups.save(group());
+        members.save(GroupMember.builder().groupId(g.getId()).userId("u1").build());
+        projector.refresh(g.getId());
+
+        // A join lands (and its event refreshes the summary) after reconcile read the old members
+        afterMemberRead = () -> {
+            members.save(GroupMember.builder().groupId(g.getId()).userId("u2").build());
+            projector.refresh(g.getId());
+        };
+        projector.reconcile();
+
+        GroupSummary summary = summaries.findById(g.getId()).orElseThrow();
+        assertEquals(2, summary.getMemberCount());
+        assertEquals(List.of("u1", "u2"), summary.getMemberUserIds());
+    }
+
+    @Test
+    @DisplayName("A refresh that read before a join cannot overwrite the join's newer refresh")
+    void interleavedRefreshesKeepTheNewest() {
+        Group g = groups.save(group());
+        members.save(GroupMember.builder().groupId(g.getId()).userId("u1").build());
+        projector.refresh(g.getId());
+
+        // Refresh A has read the group and its members; then a join lands, the
+        // way GroupService writes it, and its own refresh B completes first
+        afterGroupMembersRead = () -> {
+            groups.reserveSeat(g.getId());
+            members.save(GroupMember.builder().groupId(g.getId()).userId("u2").build());
+            groups.touch(g.getId());
+            projector.refresh(g.getId());
+        };
+        projector.refresh(g.getId());
+
+        GroupSummary summary = summaries.findById(g.getId()).orElseThrow();
+        assertEquals(List.of("u1", "u2"), summary.getMemberUserIds());
+        assertEquals(groups.findById(g.getId()).orElseThrow().getVersion(), summary.getSourceVersion());
+
+        // Same version again (e.g. a reconcile repair) still replaces it
+        summary.setMemberCount(99);
+        summaries.save(summary);
+        projector.refresh(g.getId());
+        assertEquals(2, summaries.findById(g.getId()).orElseThrow().getMemberCount());
+    }
+
+    private static Group group() {
+        return Group.builder()
+                .placeId("p1").creatorId("u1")
+                .dateTime(Instant.now().plus(1, ChronoUnit.DAYS))
+                .maxSize(4)
+                .visibility(Group.Visibility.PUBLIC)
+                .status(Group.Status.JOINABLE)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.localgroup.leaderboard;
+
+import com.app.localgroup.user.model.User;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TrustLeaderboard - ranks and top-K")
+class TrustLeaderboardTests {
+
+    private final TrustLeaderboard board = new TrustLeaderboard(null, -10, 10);
+
+    @Test
+    @DisplayName("Ranks count strictly higher scores; ties share a rank")
+    void ranksWithTies() {
+        board.update("a", 5);
+        board.update("b", 3);
+        board.update("c", 5);
+        board.update("d", -2);
+
+        assertEquals(1, board.rankOf("a").orElseThrow().rank());
+        assertEquals(1, board.rankOf("c").orElseThrow().rank());
+        assertEquals(3, board.rankOf("b").orElseThrow().rank());
+        assertEquals(4, board.rankOf("d").orElseThrow().rank());
+        assertTrue(board.rankOf("zzz").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Score changes move users and top-K follows")
+    void updatesMoveUsers() {
+        board.update("a", 1);
+        board.update("b", 2);
+        board.update("c", 3);
+
+        board.update("a", 4);   // +3 over a few trips
+        board.update("c", 1);   // -2 no-show
+
+        List<TrustLeaderboard.Entry> top = board.top(2);
+        assertEquals(List.of("a", "b"), top.stream().map(TrustLeaderboard.Entry::userId).toList());
+        assertEquals(3, board.rankOf("c").orElseThrow().rank());
+        assertEquals(3, board.size());
+    }
+
+    @Test
+    @DisplayName("Scores outside the bucket range still order correctly in top-K")
+    void outOfRangeScores() {
+        board.update("high", 500);
+        board.update("higher", 900);
+        board.update("mid", 0);
+
+        assertEquals(List.of("higher", "high", "mid"),
+                board.top(10).stream().map(TrustLeaderboard.Entry::userId).toList());
+        assertEquals(2, board.top(10).get(1).rank());
+        assertEquals(3, board.rankOf("mid").orElseThrow().rank());
+    }
+
+    @Test
+    @DisplayName("Score changes made while a rebuild reads Mongo survive the swap")
+    void updatesDuringRebuildAreReplayed() {
+        AtomicReference<TrustLeaderboard> rebuilt = new AtomicReference<>();
+        // Never connects: the only query is answered by the overridden stream()
+        try (MongoClient client = MongoClients.create("mongodb://localhost:1")) {
+            MongoTemplate template = new MongoTemplate(client, "unused") {
+                @Override
+                public <T> Stream<T> stream(Query query, Class<T> entityType) {
+                    // The read has already seen a=1 when the scheduler moves a and ranks b
+                    return Stream.of(user("a", 1), user("c", 2)).peek(u -> {
+                        if (u.getId().equals("c")) {
+                            rebuilt.get().update("a", 7);
+                            rebuilt.get().update("b", 3);
+                        }
+                    }).map(entityType::cast);
+                }
+            };
+            rebuilt.set(new TrustLeaderboard(template, -10, 10));
+            rebuilt.get().update("c", 2);
+
+            rebuilt.get().rebuild();
+        }
+
+        assertEquals(List.of("a", "b", "c"),
+                rebuilt.get().top(10).stream().map(TrustLeaderboard.Entry::userId).toList());
+        assertEquals(7, rebuilt.get().rankOf("a").orElseThrow().score());
+        assertEquals(3, rebuilt.get().size());
+    }
+
+    private static User user(String id, int trustScore) {
+        return User.builder().id(id).username(id).trustScore(trustScore).build();
+    }
+}
@@ -0,0 +1,335 @@
+package com.app.localgroup.loadtest;
+
+import com.app.localgroup.auth.AuthService;
+import com.app.localgroup.common.Constants;
+import com.app.localgroup.config.jwt.JwtUtil;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.repository.GroupMemberRepository;
+import com.app.localgroup.group.repository.GroupRepository;
+import com.app.localgroup.metrics.Histogram;
+import com.app.localgroup.support.MongoStandIn;
+import com.app.localgroup.user.UserService;
+import com.app.localgroup.user.dto.CompleteProfileDto;
+import com.app.localgroup.user.model.Gender;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chat load harness: simulated SockJS/STOMP clients against one app node.
+ *
+ * Excluded from the default build. Run with:
+ *
+ *   mvn -Pload-test test -Dload.sessions=2000 -Dload.rate=500 -Dload.duration=60
+ *
+ * Tunables (system properties):
+ * - load.sessions   concurrent STOMP sessions (default 1000)
+ * - load.groupSize  members per ACTIVE group, 2–6 (default 6)
+ * - load.rate       chat messages sent per second across all groups (default 200)
+ * - load.duration   send phase in seconds (default 30)
+ * - load.encoding   json | compact (default json)
+ *
+ * Every user goes through the real OTP flow in AuthService, so sessions carry
+ * genuine JWTs that JwtUtil verifies on CONNECT. Each message carries its send
+ * time; every receiving member records end-to-end delivery latency.
+ *
+ * Memory per session is measured as the heap delta across the connect phase
+ * divided by the session count. Client and server run in the same JVM, so the
+ * figure covers both ends of each connection.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.com.app.localgroup=WARN")
+@Tag("load")
+class ChatLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatLoadTest.class);
+
+    private static final Pattern SENT_AT = Pattern.compile("lt:(\\d+)");
+
+    private static final int SESSIONS = Integer.getInteger("load.sessions", 1000);
+    private static final int GROUP_SIZE = Math.max(2, Math.min(6, Integer.getInteger("load.groupSize", 6)));
+    private static final int RATE = Integer.getInteger("load.rate", 200);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration", 30);
+    private static final String ENCODING = System.getProperty("load.encoding", "json");
+    private static final int MAX_CONCURRENT_CONNECTS = 200;
+
+    @BeforeAll
+    static void requireMongo() {
+        Assumptions.assumeTrue(MongoStandIn.isAvailable(), "No Docker or TEST_MONGODB_URI for the Mongo stand-in");
+    }
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        String uri = MongoStandIn.connectionString("chat_load");
+        registry.add("spring.mongodb.uri", () -> uri);
+        registry.add("spring.data.mongodb.uri", () -> uri);
+    }
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    private final Histogram latency = new Histogram();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong sendErrors = new AtomicLong();
+    private final AtomicLong transportErrors = new AtomicLong();
+
+    @Test
+    void chatFanoutUnderLoad() throws Exception {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        log.warn("Chat load run {}: sessions={} groupSize={} rate={}/s duration={}s encoding={}",
+                run, SESSIONS, GROUP_SIZE, RATE, DURATION_SECONDS, ENCODING);
+
+        List<SimUser> users = createUsers(run);
+        List<String> groupIds = createActiveGroups(users);
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setDefaultHeartbeat(new long[] {0, 0});
+
+        long heapBefore = usedHeapAfterGc();
+        long connectStart = System.nanoTime();
+        connectAll(stompClient, users);
+        long connectMillis = (System.nanoTime() - connectStart) / 1_000_000;
+        long heapAfter = usedHeapAfterGc();
+
+        long sendStart = System.nanoTime();
+        drive(users);
+        long sendMillis = (System.nanoTime() - sendStart) / 1_000_000;
+
+        // Let in-flight frames drain before reading the histogram
+        Thread.sleep(2_000);
+
+        long expected = sent.get() * GROUP_SIZE;
+        log.warn("---------------- chat load report ({}) ----------------", run);
+        log.warn("sessions={} groups={} connected in {} ms", users.size(), groupIds.size(), connectMillis);
+        log.warn("heap per session (client+server) ~ {} KiB", (heapAfter - heapBefore) / 1024 / Math.max(1, users.size()));
+        log.warn("sent={} ({} msg/s) sendErrors={} transportErrors={}",
+                sent.get(), sent.get() * 1000 / Math.max(1, sendMillis), sendErrors.get(), transportErrors.get());
+        log.warn("delivered={} of expected {} ({} deliveries/s)",
+                latency.count(), expected, latency.count() * 1000 / Math.max(1, sendMillis));
+        log.warn("end-to-end latency: {}", latency.summary("us"));
+
+        users.forEach(u -> {
+            if (u.session != null && u.session.isConnected()) u.session.disconnect();
+        });
+        stompClient.stop();
+
+        assertTrue(latency.count() > 0, "No chat frames were delivered");
+    }
+
+    // -------------------------------------------------------------------------
+    // Setup
+    // -------------------------------------------------------------------------
+
+    private List<SimUser> createUsers(String run) {
+        List<SimUser> users = new ArrayList<>(SESSIONS);
+        for (int i = 0; i < SESSIONS; i++) {
+            String email = "load-" + run + "-" + i + "@load.test";
+            String phone = "+9" + run + i;
+            String otp = authService.generateOtp(email, phone);
+            String token = authService.verifyOtpAndIssueToken(email, phone, otp);
+            String userId = jwtUtil.parseClaims(token).getSubject();
+
+            CompleteProfileDto profile = new CompleteProfileDto();
+            profile.setUsername("lt" + run + "_" + i);
+            profile.setAge(25);
+            profile.setGender(Gender.OTHER);
+            userService.completeProfile(userId, profile);
+
+            users.add(new SimUser(userId, token));
+        }
+        return users;
+    }
+
+    private List<String> createActiveGroups(List<SimUser> users) {
+        List<String> groupIds = new ArrayList<>();
+        for (int start = 0; start + 1 < users.size(); start += GROUP_SIZE) {
+            List<SimUser> members = users.subList(start, Math.min(start + GROUP_SIZE, users.size()));
+            Group group = groupRepository.save(Group.builder()
+                    .placeId("load-place")
+                    .creatorId(members.get(0).userId)
+                    .dateTime(Instant.now())
+                    .maxSize(GROUP_SIZE)
+                    .visibility(Group.Visibility.PUBLIC)
+                    .status(Group.Status.ACTIVE)
+                    .confirmationEligibleUserIds(members.stream().map(m -> m.userId).toList())
+                    .build());
+
+            groupMemberRepository.saveAll(members.stream()
+                    .map(m -> GroupMember.builder().groupId(group.getId()).userId(m.userId).confirmed(true).build())
+                    .toList());
+            members.forEach(m -> m.groupId = group.getId());
+            groupIds.add(group.getId());
+        }
+        return groupIds;
+    }
+
+    private void connectAll(WebSocketStompClient stompClient, List<SimUser> users) throws Exception {
+        String url = "http://localhost:" + port + "/ws";
+        Semaphore inFlight = new Semaphore(MAX_CONCURRENT_CONNECTS);
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+
+        for (SimUser user : users) {
+            if (user.groupId == null) continue;
+            inFlight.acquire();
+
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add(Constants.AUTH_HEADER, Constants.TOKEN_PREFIX + user.token);
+            if (Constants.CHAT_ENCODING_COMPACT.equals(ENCODING)) {
+                connectHeaders.add(Constants.CHAT_ENCODING_HEADER, Constants.CHAT_ENCODING_COMPACT);
+            }
+
+            pending.add(stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+                        @Override
+                        public void handleTransportError(StompSession session, Throwable exception) {
+                            transportErrors.incrementAndGet();
+                        }
+                    })
+                    .thenAccept(session -> {
+                        user.session = session;
+                        session.subscribe("/topic/group/" + user.groupId, new LatencyRecorder());
+                    })
+                    .whenComplete((ok, ex) -> {
+                        if (ex != null) transportErrors.incrementAndGet();
+                        inFlight.release();
+                    }));
+        }
+
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .exceptionally(ex -> null)
+                .get(5, TimeUnit.MINUTES);
+    }
+
+    // -------------------------------------------------------------------------
+    // Send phase
+    // -------------------------------------------------------------------------
+
+    private void drive(List<SimUser> users) throws InterruptedException {
+        List<SimUser> connected = users.stream().filter(u -> u.session != null && u.session.isConnected()).toList();
+        if (connected.isEmpty()) return;
+
+        // Every 10 ms, send whatever the configured rate has accrued since the start.
+        // Send i is due at start + i / RATE seconds, so fractional per-tick shares
+        // carry over and any rate is offered exactly rather than rounded per tick.
+        long start = System.nanoTime();
+        ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor();
+        sender.scheduleAtFixedRate(new Runnable() {
+            private long issued;
+
+            @Override
+            public void run() {
+                long due = (System.nanoTime() - start) * RATE / 1_000_000_000L;
+                for (; issued < due; issued++) {
+                    send(connected.get(ThreadLocalRandom.current().nextInt(connected.size())));
+                }
+            }
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(DURATION_SECONDS * 1000L);
+        sender.shutdownNow();
+        sender.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void send(SimUser from) {
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination("/app/chat.send/" + from.groupId);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        String body = "{\"content\":\"lt:" + System.nanoTime() + "\"}";
+        try {
+            from.session.send(headers, body.getBytes(StandardCharsets.UTF_8));
+            sent.incrementAndGet();
+        } catch (Exception ex) {
+            sendErrors.incrementAndGet();
+        }
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    private final class LatencyRecorder implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long receivedAt = System.nanoTime();
+            Matcher m = SENT_AT.matcher(new String((byte[]) payload, StandardCharsets.UTF_8));
+            if (m.find()) {
+                latency.recordNanos(receivedAt - Long.parseLong(m.group(1)));
+            }
+        }
+    }
+
+    private static final class SimUser {
+        final String userId;
+        final String token;
+        volatile String groupId;
+        volatile StompSession session;
+
+        SimUser(String userId, String token) {
+            this.userId = userId;
+            this.token = token;
+        }
+    }
+}
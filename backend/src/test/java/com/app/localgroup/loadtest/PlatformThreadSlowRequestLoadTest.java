@@ -0,0 +1,15 @@
+package com.app.localgroup.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Baseline run of {@link SlowRequestLoadTest}: Tomcat's bounded platform thread pool.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadSlowRequestLoadTest extends SlowRequestLoadTest {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
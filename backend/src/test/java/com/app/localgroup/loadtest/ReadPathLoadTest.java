@@ -0,0 +1,200 @@
+package com.app.localgroup.loadtest;
+
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.model.GroupSummary;
+import com.app.localgroup.group.summary.GroupSummaryProjector;
+import com.app.localgroup.metrics.Histogram;
+import com.app.localgroup.place.model.Place;
+import com.app.localgroup.support.MongoStandIn;
+import com.app.localgroup.user.model.User;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput of the servlet read endpoints against their reactive variants
+ * (/reactive/...), on the same data and the same server. Excluded from the
+ * default build:
+ *
+ *   mvn -Pload-test test -Dtest=ReadPathLoadTest -Dload.concurrency=400
+ *
+ * Before measuring, each pair is checked to return the same body.
+ *
+ * Tunables (system properties):
+ * - load.concurrency     requests in flight at once (default 200)
+ * - load.requests        requests per endpoint (default 5000)
+ * - load.groups          public groups seeded at the place (default 20)
+ * - load.tomcatThreads   servlet worker threads (default 50); the reactive
+ *                        variants should not be bounded by it
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.com.app.localgroup=WARN")
+@Tag("load")
+class ReadPathLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadPathLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 5000);
+    private static final int GROUPS = Integer.getInteger("load.groups", 20);
+    private static final int MEMBERS_PER_GROUP = 4;
+
+    @BeforeAll
+    static void requireMongo() {
+        Assumptions.assumeTrue(MongoStandIn.isAvailable(), "No Docker or TEST_MONGODB_URI for the Mongo stand-in");
+    }
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        String uri = MongoStandIn.connectionString("read_path_load");
+        registry.add("spring.mongodb.uri", () -> uri);
+        registry.add("spring.data.mongodb.uri", () -> uri);
+        registry.add("server.tomcat.threads.max", () -> Integer.getInteger("load.tomcatThreads", 50));
+    }
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private GroupSummaryProjector groupSummaryProjector;
+
+    private String placeId;
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.dropCollection(Place.class);
+        mongoTemplate.dropCollection(Group.class);
+        mongoTemplate.dropCollection(GroupMember.class);
+        mongoTemplate.dropCollection(User.class);
+        mongoTemplate.dropCollection(GroupSummary.class);
+
+        Place place = mongoTemplate.save(Place.builder()
+                .name("Load Test Cafe")
+                .category(Place.Category.CAFE)
+                .geoLocation(new GeoJsonPoint(77.59, 12.97))
+                .build());
+        placeId = place.getId();
+
+        for (int g = 0; g < GROUPS; g++) {
+            Group group = mongoTemplate.save(Group.builder()
+                    .placeId(placeId)
+                    .creatorId("load-user-" + g + "-0")
+                    .dateTime(Instant.now().plus(1, ChronoUnit.DAYS))
+                    .maxSize(MEMBERS_PER_GROUP + 2)
+                    .visibility(Group.Visibility.PUBLIC)
+                    .status(Group.Status.JOINABLE)
+                    .build());
+            for (int m = 0; m < MEMBERS_PER_GROUP; m++) {
+                String userId = "load-user-" + g + "-" + m;
+                mongoTemplate.save(User.builder().id(userId).username(userId).build());
+                mongoTemplate.save(GroupMember.builder().groupId(group.getId()).userId(userId).build());
+            }
+        }
+        // Seeded behind the services' back, so build the listing read model explicitly
+        groupSummaryProjector.reconcile();
+    }
+
+    @Test
+    void servletVersusReactive() throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(8);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+
+        List<String> paths = List.of("/places", "/groups/place/" + placeId);
+        List<String> report = new ArrayList<>();
+        long totalFailures = 0;
+
+        for (String path : paths) {
+            assertEquals(get(client, path), get(client, "/reactive" + path), "Bodies differ for " + path);
+
+            for (String variant : List.of(path, "/reactive" + path)) {
+                run(client, variant); // warm-up
+                Run measured = run(client, variant);
+                totalFailures += measured.failures();
+                report.add(String.format("%-32s throughput=%d req/s failures=%d latency: %s",
+                        path.equals(variant) ? "servlet " + path.replace(placeId, "{id}") : "reactive " + path.replace(placeId, "{id}"),
+                        measured.throughput(), measured.failures(), measured.latency().summary("us")));
+            }
+        }
+        clientExecutor.shutdown();
+
+        log.warn("---------------- read path report ----------------");
+        log.warn("requests={} concurrency={} groups={} members/group={}", REQUESTS, CONCURRENCY, GROUPS, MEMBERS_PER_GROUP);
+        report.forEach(log::warn);
+
+        assertEquals(0, totalFailures, "Requests failed");
+    }
+
+    private String get(HttpClient client, String path) throws Exception {
+        HttpResponse<String> response = client.send(request(path), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), path);
+        return response.body();
+    }
+
+    private Run run(HttpClient client, String path) throws InterruptedException {
+        HttpRequest request = request(path);
+        Histogram latency = new Histogram();
+        AtomicLong failures = new AtomicLong();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<CompletableFuture<?>> pending = new ArrayList<>(REQUESTS);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            inFlight.acquire();
+            long sentAt = System.nanoTime();
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        } else {
+                            latency.recordNanos(System.nanoTime() - sentAt);
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        return new Run(REQUESTS * 1000L / elapsedMillis, failures.get(), latency);
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build();
+    }
+
+    private record Run(long throughput, long failures, Histogram latency) {}
+}
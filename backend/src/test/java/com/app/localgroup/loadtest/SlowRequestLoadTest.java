@@ -0,0 +1,168 @@
+package com.app.localgroup.loadtest;
+
+import com.app.localgroup.common.Constants;
+import com.app.localgroup.config.jwt.JwtUtil;
+import com.app.localgroup.config.threads.VirtualThreadMode;
+import com.app.localgroup.metrics.Histogram;
+import com.app.localgroup.support.MongoStandIn;
+import com.app.localgroup.user.model.User;
+import org.bson.Document;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Platform vs virtual threads under many concurrent slow requests.
+ *
+ * Each request makes one Mongo round trip and then blocks for load.delayMs,
+ * standing in for a slow query. Run both subclasses and compare their
+ * reports (excluded from the default build):
+ *
+ *   mvn -Pload-test test -Dtest='*SlowRequestLoadTest' -Dload.concurrency=2000
+ *
+ * The virtual-thread run needs a Java 21+ runtime and is skipped otherwise.
+ *
+ * Tunables (system properties):
+ * - load.concurrency  requests in flight at once (default 2000)
+ * - load.requests     total requests (default 10000)
+ * - load.delayMs      simulated query time per request (default 200)
+ *
+ * Peak platform threads covers the whole JVM (client included); with
+ * virtual threads it should stay flat while concurrency grows.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.com.app.localgroup=WARN")
+@Import(SlowRequestLoadTest.SlowEndpoint.class)
+@Tag("load")
+abstract class SlowRequestLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowRequestLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 2000);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 10_000);
+    static final long DELAY_MS = Long.getLong("load.delayMs", 200);
+
+    @BeforeAll
+    static void requireMongo() {
+        Assumptions.assumeTrue(MongoStandIn.isAvailable(), "No Docker or TEST_MONGODB_URI for the Mongo stand-in");
+    }
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        String uri = MongoStandIn.connectionString("slow_request_load");
+        registry.add("spring.mongodb.uri", () -> uri);
+        registry.add("spring.data.mongodb.uri", () -> uri);
+    }
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    protected VirtualThreadMode virtualThreadMode;
+
+    /** "platform" or "virtual", for the report. */
+    abstract String mode();
+
+    @Test
+    void concurrentSlowRequests() throws Exception {
+        String token = jwtUtil.issueToken(User.builder().id("load-user").email("load@load.test").phone("+900").build());
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/loadtest/slow"))
+                .header(Constants.AUTH_HEADER, Constants.TOKEN_PREFIX + token)
+                .build();
+
+        // Small fixed client pool, so client threads do not inflate the peak thread count
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(8);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+
+        Histogram latency = new Histogram();
+        AtomicLong failures = new AtomicLong();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<CompletableFuture<?>> pending = new ArrayList<>(REQUESTS);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            inFlight.acquire();
+            long sentAt = System.nanoTime();
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        } else {
+                            latency.recordNanos(System.nanoTime() - sentAt);
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        clientExecutor.shutdown();
+
+        log.warn("---------------- slow request report ({} threads) ----------------", mode());
+        log.warn("requests={} concurrency={} delay={}ms failures={}", REQUESTS, CONCURRENCY, DELAY_MS, failures.get());
+        log.warn("throughput={} req/s (ideal {} req/s)", REQUESTS * 1000L / elapsedMillis, CONCURRENCY * 1000L / Math.max(1, DELAY_MS));
+        log.warn("latency: {}", latency.summary("us"));
+        log.warn("peak platform threads={}", threads.getPeakThreadCount());
+
+        assertEquals(0, failures.get(), "Requests failed");
+    }
+
+    /**
+     * Test-only endpoint: one real Mongo round trip, then a blocking wait.
+     * Nested in a test class, so component scanning skips it; only this test imports it.
+     */
+    @RestController
+    static class SlowEndpoint {
+
+        private final MongoTemplate mongoTemplate;
+
+        SlowEndpoint(MongoTemplate mongoTemplate) {
+            this.mongoTemplate = mongoTemplate;
+        }
+
+        @GetMapping("/loadtest/slow")
+        String slow() throws InterruptedException {
+            mongoTemplate.executeCommand(new Document("ping", 1));
+            Thread.sleep(DELAY_MS);
+            return "ok";
+        }
+    }
+}
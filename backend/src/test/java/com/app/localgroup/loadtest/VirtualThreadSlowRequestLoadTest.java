@@ -0,0 +1,23 @@
+package com.app.localgroup.loadtest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * {@link SlowRequestLoadTest} in virtual-thread mode (Java 21+ runtime).
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadSlowRequestLoadTest extends SlowRequestLoadTest {
+
+    @BeforeEach
+    void requireVirtualThreads() {
+        assumeTrue(virtualThreadMode.isActive(), "Virtual threads need a Java 21+ runtime");
+    }
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,42 @@
+package com.app.localgroup.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Histogram - log-linear percentiles and destination patterns")
+class HistogramTests {
+
+    @Test
+    @DisplayName("Percentiles stay within bucket precision of the true values")
+    void percentilesWithinPrecision() {
+        Histogram h = new Histogram();
+        for (int v = 1; v <= 10_000; v++) h.record(v);
+
+        assertEquals(10_000, h.count());
+        assertEquals(10_000, h.max());
+        assertEquals(5_000.5, h.mean(), 0.01);
+        assertEquals(5_000, h.percentile(50), 5_000 * 0.07);
+        assertEquals(9_900, h.percentile(99), 9_900 * 0.07);
+        assertTrue(h.percentile(100) <= h.max());
+    }
+
+    @Test
+    @DisplayName("Nanosecond timings are recorded in microseconds")
+    void recordsMicros() {
+        Histogram h = new Histogram();
+        h.recordNanos(1_500_000);
+
+        assertEquals(1_500, h.max());
+        assertEquals(0, new Histogram().percentile(50));
+    }
+
+    @Test
+    @DisplayName("STOMP destinations collapse id segments")
+    void destinationPattern() {
+        assertEquals("/app/chat.send/{id}", StompMetricsInterceptor.pattern("/app/chat.send/665f0c2e9b1d4a7f3c2e1a90"));
+        assertEquals("/app/chat.send/{id}/", StompMetricsInterceptor.pattern("/app/chat.send/g1/"));
+        assertEquals("/app/ping", StompMetricsInterceptor.pattern("/app/ping"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.app.localgroup.metrics.query;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QueryLog - fingerprints and repeated shapes")
+class QueryFingerprintTests {
+
+    @Test
+    @DisplayName("Lookups that differ only in values share a fingerprint")
+    void valuesAreErased() {
+        String a = QueryFingerprint.of("find", BsonDocument.parse(
+                "{find: 'group_members', filter: {groupId: 'g1'}, $db: 'app'}"));
+        String b = QueryFingerprint.of("find", BsonDocument.parse(
+                "{find: 'group_members', filter: {groupId: 'g2'}, $db: 'app'}"));
+        String c = QueryFingerprint.of("aggregate", BsonDocument.parse(
+                "{aggregate: 'group_members', pipeline: [{$match: {userId: 'u1', confirmed: true}}, {$lookup: {from: 'groups'}}]}"));
+
+        assertEquals("find group_members {groupId:?}", a);
+        assertEquals(a, b);
+        assertEquals("aggregate group_members [$match{userId:?,confirmed:?},$lookup]", c);
+        assertNull(QueryFingerprint.of("hello", BsonDocument.parse("{hello: 1}")));
+    }
+
+    @Test
+    @DisplayName("A log flags shapes repeated past the threshold and joins outer scopes")
+    void repeatedShapes() {
+        try (QueryLog.Scope outer = QueryLog.open("outer")) {
+            try (QueryLog.Scope inner = QueryLog.open("inner")) {
+                assertFalse(inner.isOwner());
+                for (int i = 0; i < 3; i++) QueryLog.current().record("find users {_id:?}");
+            }
+            QueryLog.current().record("find groups {_id:?}");
+
+            assertEquals(4, outer.log().total());
+            assertEquals(List.of("3x find users {_id:?}"), outer.log().repeated(3));
+        }
+        assertNull(QueryLog.current());
+    }
+}
@@ -0,0 +1,81 @@
+package com.app.localgroup.metrics.query;
+
+import com.app.localgroup.metrics.MetricsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QueryLogReporter - offender detection")
+class QueryLogReporterTests {
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    // Repeats from 3 of one shape, budget of 5 queries, never logs
+    private final QueryLogReporter reporter = new QueryLogReporter(metrics, true, 3, 5, 0.0);
+
+    @Test
+    @DisplayName("A shape issued repeat-threshold times makes an offender; one fewer does not")
+    void repeatedShape() {
+        run("find users {_id:?}", "find users {_id:?}", "find groups {_id:?}");
+        assertEquals(0, offenders());
+
+        run("find users {_id:?}", "find users {_id:?}", "find users {_id:?}");
+        assertEquals(1, offenders());
+        assertEquals(2, inspected());
+    }
+
+    @Test
+    @DisplayName("More than max-queries distinct commands make an offender; exactly max-queries do not")
+    void tooManyQueries() {
+        run("a", "b", "c", "d", "e");
+        assertEquals(0, offenders());
+
+        run("a", "b", "c", "d", "e", "f");
+        assertEquals(1, offenders());
+    }
+
+    @Test
+    @DisplayName("A nested scope joins the outer log and is only reported once, when the outer closes")
+    void nestedScopeJoinsOuter() {
+        QueryLog.Scope outer = reporter.open("GET /groups/me");
+        QueryLog.Scope inner = reporter.open("STOMP /app/x");
+        assertFalse(inner.isOwner());
+        assertSame(outer.log(), inner.log());
+        for (int i = 0; i < 3; i++) QueryLog.current().record("find group_members {groupId:?}");
+
+        reporter.close(inner, null);
+        assertEquals(0, inspected());
+        assertSame(outer.log(), QueryLog.current(), "closing a joined scope keeps the outer log bound");
+
+        reporter.close(outer, "GET /groups/me");
+        assertEquals(1, inspected());
+        assertEquals(1, offenders());
+        assertNull(QueryLog.current());
+    }
+
+    @Test
+    @DisplayName("When disabled nothing is opened or counted")
+    void disabled() {
+        QueryLogReporter off = new QueryLogReporter(metrics, false, 3, 5, 0.0);
+
+        QueryLog.Scope scope = off.open("GET /groups/me");
+        assertNull(scope);
+        assertNull(QueryLog.current());
+        off.close(scope, null);
+        assertEquals(0, inspected());
+    }
+
+    private void run(String... fingerprints) {
+        QueryLog.Scope scope = reporter.open("unit");
+        for (String fingerprint : fingerprints) QueryLog.current().record(fingerprint);
+        reporter.close(scope, null);
+    }
+
+    private long offenders() {
+        return metrics.gauge("query-log", "offenders").get();
+    }
+
+    private long inspected() {
+        return metrics.gauge("query-log", "inspected").get();
+    }
+}
@@ -0,0 +1,153 @@
+package com.app.localgroup.place.live;
+
+import com.app.localgroup.group.GroupService;
+import com.app.localgroup.group.event.GroupChangedEvent;
+import com.app.localgroup.group.event.GroupChangedEvent.Change;
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.group.repository.GroupMemberRepository;
+import com.app.localgroup.group.repository.GroupRepository;
+import com.app.localgroup.metrics.MetricsRegistry;
+import com.app.localgroup.place.PlaceService;
+import com.app.localgroup.place.repository.PlaceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpSubscriptionMatcher;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PlaceGroupFeed - coalesced per-place group updates")
+class PlaceGroupFeedTests {
+
+    private final Map<String, Group> db = new HashMap<>();
+    private final AtomicInteger groupLoads = new AtomicInteger();
+    private final List<Message<?>> sent = new ArrayList<>();
+    private final Set<String> subscribed = new HashSet<>(Set.of("/topic/place/p1/groups"));
+
+    private final PlaceGroupFeed feed = feed();
+
+    @Test
+    @DisplayName("A burst of changes at one place becomes one message with one entry per group")
+    void burstIsCoalesced() {
+        group("g1", Group.Visibility.PUBLIC, Group.Status.JOINABLE);
+        group("g2", Group.Visibility.PUBLIC, Group.Status.JOINABLE);
+
+        feed.onGroupChanged(new GroupChangedEvent("g1", "p1", Change.CREATED, "u1"));
+        feed.onGroupChanged(new GroupChangedEvent("g1", "p1", Change.MEMBER_JOINED, "u2"));
+        feed.onGroupChanged(new GroupChangedEvent("g1", "p1", Change.MEMBER_JOINED, "u3"));
+        feed.onGroupChanged(new GroupChangedEvent("g2", "p1", Change.MEMBER_JOINED, "u4"));
+        feed.flush();
+
+        assertEquals(1, sent.size());
+        assertEquals("/topic/place/p1/groups", SimpMessageHeaderAccessor.getDestination(sent.get(0).getHeaders()));
+        assertEquals(1, groupLoads.get(), "dirty groups are loaded with one query");
+
+        Map<String, PlaceFeedUpdate.Type> types = types((PlaceFeedUpdate) sent.get(0).getPayload());
+        assertEquals(Map.of("g1", PlaceFeedUpdate.Type.ADDED, "g2", PlaceFeedUpdate.Type.UPDATED), types);
+
+        feed.flush();
+        assertEquals(1, sent.size(), "nothing pending after a flush");
+    }
+
+    @Test
+    @DisplayName("Groups that stop being joinable are removed; private groups never show up")
+    void removalsAndPrivateGroups() {
+        group("g1", Group.Visibility.PUBLIC, Group.Status.CONFIRMATION);
+        group("g2", Group.Visibility.PRIVATE, Group.Status.JOINABLE);
+
+        feed.onGroupChanged(new GroupChangedEvent("g1", "p1", Change.STATUS_CHANGED));
+        feed.onGroupChanged(new GroupChangedEvent("g2", "p1", Change.CREATED, "u1"));
+        feed.flush();
+
+        PlaceFeedUpdate update = (PlaceFeedUpdate) sent.get(0).getPayload();
+        assertEquals(Map.of("g1", PlaceFeedUpdate.Type.REMOVED), types(update));
+        assertNull(update.changes().get(0).group());
+    }
+
+    @Test
+    @DisplayName("Places without subscribers are dropped without loading groups")
+    void unwatchedPlacesCostNothing() {
+        group("g9", Group.Visibility.PUBLIC, Group.Status.JOINABLE);
+
+        feed.onGroupChanged(new GroupChangedEvent("g9", "p9", Change.CREATED, "u1"));
+        feed.flush();
+
+        assertTrue(sent.isEmpty());
+        assertEquals(0, groupLoads.get());
+    }
+
+    private static Map<String, PlaceFeedUpdate.Type> types(PlaceFeedUpdate update) {
+        Map<String, PlaceFeedUpdate.Type> types = new HashMap<>();
+        update.changes().forEach(c -> types.put(c.groupId(), c.type()));
+        return types;
+    }
+
+    private void group(String id, Group.Visibility visibility, Group.Status status) {
+        db.put(id, Group.builder().id(id).placeId("p1").creatorId("u1").maxSize(4)
+                .visibility(visibility).status(status).build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T fake(Class<T> type, java.util.function.BiFunction<String, Object[], Object> handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> handler.apply(method.getName(), args));
+    }
+
+    private PlaceGroupFeed feed() {
+        GroupRepository groups = fake(GroupRepository.class, (method, args) -> switch (method) {
+            case "findAllById" -> {
+                groupLoads.incrementAndGet();
+                List<Group> found = new ArrayList<>();
+                for (Object id : (Iterable<?>) args[0]) {
+                    if (db.containsKey(id)) found.add(db.get(id));
+                }
+                yield found;
+            }
+            default -> throw new UnsupportedOperationException(method);
+        });
+        GroupMemberRepository members = fake(GroupMemberRepository.class, (method, args) -> switch (method) {
+            case "findByGroupId" -> List.of(GroupMember.builder().groupId((String) args[0]).userId("u1").confirmed(true).build());
+            default -> throw new UnsupportedOperationException(method);
+        });
+        PlaceRepository places = fake(PlaceRepository.class, (method, args) -> switch (method) {
+            case "findById" -> Optional.empty();
+            default -> throw new UnsupportedOperationException(method);
+        });
+        SimpUserRegistry registry = fake(SimpUserRegistry.class, (method, args) -> switch (method) {
+            case "findSubscriptions" -> {
+                Set<SimpSubscription> found = new HashSet<>();
+                for (String destination : subscribed) {
+                    SimpSubscription subscription = fake(SimpSubscription.class, (m, a) -> switch (m) {
+                        case "getDestination" -> destination;
+                        case "hashCode" -> destination.hashCode();
+                        case "equals" -> false; // one instance per destination; HashSet checks identity first
+                        default -> null;
+                    });
+                    if (((SimpSubscriptionMatcher) args[0]).match(subscription)) found.add(subscription);
+                }
+                yield found;
+            }
+            default -> throw new UnsupportedOperationException(method);
+        });
+
+        GroupService groupService = new GroupService(groups, members, null, new PlaceService(places, groups, event -> {}),
+                null, null, null, null, null, null, event -> {});
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+        return new PlaceGroupFeed(groups, groupService, template, registry, new MetricsRegistry());
+    }
+}
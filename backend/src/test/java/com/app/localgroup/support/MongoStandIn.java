@@ -0,0 +1,52 @@
+package com.app.localgroup.support;
+
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Local Mongo stand-in for tests that need a real database.
+ *
+ * Uses TEST_MONGODB_URI (env) / test.mongodb.uri (system property) when set,
+ * otherwise starts a single throwaway mongo container shared by the whole
+ * test JVM. Tests should call {@link #isAvailable()} first and skip when
+ * neither option exists.
+ */
+public final class MongoStandIn {
+
+    private static final DockerImageName IMAGE = DockerImageName.parse("mongo:7.0");
+    private static final int MONGO_PORT = 27017;
+
+    private static GenericContainer<?> container;
+
+    private MongoStandIn() {}
+
+    public static boolean isAvailable() {
+        if (externalUri() != null) return true;
+        try {
+            return DockerClientFactory.instance().isDockerAvailable();
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    /**
+     * @param database database name appended to container URIs
+     * @return connection string for the stand-in
+     */
+    public static synchronized String connectionString(String database) {
+        String external = externalUri();
+        if (external != null) return external;
+
+        if (container == null) {
+            container = new GenericContainer<>(IMAGE).withExposedPorts(MONGO_PORT);
+            container.start();
+        }
+        return "mongodb://" + container.getHost() + ":" + container.getMappedPort(MONGO_PORT) + "/" + database;
+    }
+
+    private static String externalUri() {
+        String uri = System.getProperty("test.mongodb.uri");
+        return uri != null ? uri : System.getenv("TEST_MONGODB_URI");
+    }
+}
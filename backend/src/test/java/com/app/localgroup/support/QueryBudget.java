@@ -0,0 +1,66 @@
+package com.app.localgroup.support;
+
+import com.app.localgroup.metrics.query.QueryLog;
+import com.app.localgroup.metrics.query.QueryLogCommandListener;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query budgets for tests: run a block of code with a query log open and
+ * assert how many Mongo commands it issued, e.g.
+ *
+ * <pre>
+ *   QueryLog log = QueryBudget.record("GET /groups/me", () -> mockMvc.perform(get("/groups/me")));
+ *   QueryBudget.assertAtMost(4, log);
+ * </pre>
+ *
+ * Spring Boot tests get the listener through MongoClientConfig; tests that
+ * build their own client use {@link #client(String)}.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {}
+
+    /**
+     * Mongo client with the query-log listener attached.
+     */
+    public static MongoClient client(String connectionString) {
+        return MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(connectionString))
+                .addCommandListener(new QueryLogCommandListener())
+                .build());
+    }
+
+    public static QueryLog record(String label, ThrowingRunnable work) {
+        try (QueryLog.Scope scope = QueryLog.open(label)) {
+            work.run();
+            return scope.log();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void assertAtMost(int maxQueries, QueryLog log) {
+        assertTrue(log.total() <= maxQueries,
+                () -> "Query budget of " + maxQueries + " exceeded: " + log);
+    }
+
+    /**
+     * Fails when any query shape is issued {@code threshold} or more times.
+     */
+    public static void assertNoRepeatedShapes(int threshold, QueryLog log) {
+        assertTrue(log.repeated(threshold).isEmpty(),
+                () -> "Repeated query shapes (N+1) " + log.repeated(threshold) + " in " + log);
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,108 @@
+package com.app.localgroup.user;
+
+import com.app.localgroup.group.model.Group;
+import com.app.localgroup.group.model.GroupMember;
+import com.app.localgroup.place.model.Place;
+import com.app.localgroup.metrics.query.QueryLog;
+import com.app.localgroup.support.MongoStandIn;
+import com.app.localgroup.support.QueryBudget;
+import com.app.localgroup.user.model.User;
+import com.mongodb.client.MongoClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * placesVisited aggregation against the local Mongo stand-in.
+ */
+@DisplayName("UserService - placesVisited aggregation")
+class PlacesVisitedAggregationTests {
+
+    private static MongoClient client;
+    private static MongoTemplate template;
+
+    private UserService userService;
+
+    @BeforeAll
+    static void connect() {
+        assumeTrue(MongoStandIn.isAvailable(), "No Docker or TEST_MONGODB_URI; skipping aggregation tests");
+        client = QueryBudget.client(MongoStandIn.connectionString("places_visited_tests"));
+        template = new MongoTemplate(client, "places_visited_tests");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (client != null) client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        template.dropCollection(Group.class);
+        template.dropCollection(GroupMember.class);
+        template.dropCollection(Place.class);
+        // toPrivateDto only needs Mongo for the aggregation
+        userService = new UserService(null, null, template, null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Only confirmed memberships of ACTIVE/EXPIRED groups count, distinct, in first-visit order")
+    void derivesDistinctPlacesFromFinishedGroups() {
+        Place cafe = template.save(Place.builder().name("Cafe").build());
+        Place park = template.save(Place.builder().name("Park").build());
+        // Manually seeded places may use ids that are not ObjectIds
+        Place manual = template.save(Place.builder().id("manual-place-1").name("Museum").build());
+        Place unnamed = template.save(Place.builder().name("  ").build());
+
+        Instant t0 = Instant.parse("2025-01-01T00:00:00Z");
+        membership("u1", group(park, Group.Status.EXPIRED), true, t0);
+        membership("u1", group(cafe, Group.Status.ACTIVE), true, t0.plusSeconds(60));
+        membership("u1", group(park, Group.Status.EXPIRED), true, t0.plusSeconds(120));
+        membership("u1", group(manual, Group.Status.EXPIRED), true, t0.plusSeconds(180));
+        membership("u1", group(unnamed, Group.Status.EXPIRED), true, t0.plusSeconds(240));
+        membership("u1", group(cafe, Group.Status.JOINABLE), true, t0.plusSeconds(300));
+        membership("u1", group(manual, Group.Status.ACTIVE), false, t0.plusSeconds(360));
+        membership("u2", group(cafe, Group.Status.EXPIRED), true, t0);
+
+        List<String> places = userService.toPrivateDto(User.builder().id("u1").build()).getPlacesVisited();
+
+        assertEquals(List.of("Park", "Cafe", "Museum"), places);
+    }
+
+    @Test
+    @DisplayName("Users without trips get an empty list")
+    void emptyForNewUsers() {
+        assertEquals(List.of(), userService.toPrivateDto(User.builder().id("nobody").build()).getPlacesVisited());
+    }
+
+    @Test
+    @DisplayName("placesVisited costs one aggregate however many trips the user has")
+    void singleQueryPerProfile() {
+        Place cafe = template.save(Place.builder().name("Cafe").build());
+        for (int i = 0; i < 10; i++) {
+            membership("u1", group(cafe, Group.Status.EXPIRED), true, Instant.now());
+        }
+
+        QueryLog log = QueryBudget.record("toPrivateDto",
+                () -> userService.toPrivateDto(User.builder().id("u1").build()));
+
+        QueryBudget.assertAtMost(1, log);
+    }
+
+    private Group group(Place place, Group.Status status) {
+        return template.save(Group.builder().placeId(place.getId()).status(status).build());
+    }
+
+    private void membership(String userId, Group group, boolean confirmed, Instant joinedAt) {
+        template.save(GroupMember.builder()
+                .groupId(group.getId()).userId(userId).confirmed(confirmed).joinedAt(joinedAt).build());
+    }
+}
@@ -0,0 +1,80 @@
+package com.app.localgroup.user;
+
+import com.app.localgroup.user.cache.UserSnapshot;
+import com.app.localgroup.user.cache.UserSnapshotCache;
+import com.app.localgroup.user.model.User;
+import com.app.localgroup.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserSnapshotCache - batched, write-through user snapshots")
+class UserSnapshotCacheTests {
+
+    private final AtomicInteger queries = new AtomicInteger();
+    private final Map<String, User> db = Map.of(
+            "u1", User.builder().id("u1").username("ann").trustScore(3).build(),
+            "u2", User.builder().id("u2").username("bob").trustScore(5).build(),
+            "u3", User.builder().id("u3").username("cid").trustScore(7).build()
+    );
+
+    @Test
+    @DisplayName("Batch lookups load all misses with one query and keep request order")
+    void batchLoadsMissesOnce() {
+        UserSnapshotCache cache = new UserSnapshotCache(fakeRepository(), 100, 60_000);
+        cache.get("u2");
+        queries.set(0);
+
+        Map<String, UserSnapshot> result = cache.getAll(List.of("u3", "u2", "missing", "u1", "u3"));
+
+        assertEquals(List.of("u3", "u2", "u1"), new ArrayList<>(result.keySet()));
+        assertEquals(1, queries.get());
+
+        cache.getAll(List.of("u1", "u2", "u3"));
+        assertEquals(1, queries.get(), "second batch is served from the cache");
+    }
+
+    @Test
+    @DisplayName("Writes are visible immediately through put")
+    void writeThrough() {
+        UserSnapshotCache cache = new UserSnapshotCache(fakeRepository(), 100, 60_000);
+        assertEquals(3, cache.get("u1").orElseThrow().trustScore());
+
+        cache.put(User.builder().id("u1").username("ann").trustScore(4).build());
+
+        assertEquals(4, cache.get("u1").orElseThrow().trustScore());
+        assertEquals(1, queries.get());
+    }
+
+    /**
+     * UserRepository stand-in that answers findById / findSnapshotsByIdIn from a map and counts calls.
+     */
+    private UserRepository fakeRepository() {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[] { UserRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> {
+                        queries.incrementAndGet();
+                        yield Optional.ofNullable(db.get((String) args[0]));
+                    }
+                    case "findSnapshotsByIdIn" -> {
+                        queries.incrementAndGet();
+                        List<User> found = new ArrayList<>();
+                        for (Object id : (Iterable<?>) args[0]) {
+                            if (db.containsKey(id)) found.add(db.get(id));
+                        }
+                        yield found;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,79 @@
+package com.app.localgroup.user;
+
+import com.app.localgroup.support.MongoStandIn;
+import com.app.localgroup.user.model.User;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("UsernameIndex - availability and prefix search")
+class UsernameIndexTests {
+
+    private static MongoClient client;
+    private static MongoTemplate template;
+
+    private UsernameIndex index;
+
+    @BeforeAll
+    static void connect() {
+        assumeTrue(MongoStandIn.isAvailable(), "No Docker or TEST_MONGODB_URI; skipping username index tests");
+        client = MongoClients.create(MongoStandIn.connectionString("username_index_tests"));
+        template = new MongoTemplate(client, "username_index_tests");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (client != null) client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        template.dropCollection(User.class);
+        for (String name : List.of("anna", "annabel", "anne", "bob")) {
+            template.save(User.builder().email(name + "@x.com").phone(name).username(name).build());
+        }
+        template.save(User.builder().email("new@x.com").phone("new").build());
+        index = new UsernameIndex(template);
+    }
+
+    @Test
+    @DisplayName("Falls back to Mongo before the first load, then answers from memory")
+    void availabilityBeforeAndAfterLoad() {
+        assertEquals(UsernameIndex.Availability.TAKEN, index.check("Anna ", null));
+
+        index.reload();
+
+        assertTrue(index.isLoaded());
+        assertEquals(4, index.size());
+        assertEquals(UsernameIndex.Availability.TAKEN, index.check("anna", null));
+        assertEquals(UsernameIndex.Availability.AVAILABLE, index.check("anna", "anna"));
+        assertEquals(UsernameIndex.Availability.AVAILABLE, index.check("carol", null));
+        assertEquals(UsernameIndex.Availability.RESERVED, index.check("Admin", null));
+        assertEquals(UsernameIndex.Availability.INVALID, index.check("a!", null));
+    }
+
+    @Test
+    @DisplayName("Prefix search is ordered, bounded and follows renames")
+    void prefixSearch() {
+        index.reload();
+
+        assertEquals(List.of("anna", "annabel", "anne"), index.search("AN", 10));
+        assertEquals(List.of("anna", "annabel"), index.search("an", 2));
+        assertEquals(List.of(), index.search("z", 10));
+
+        index.replace("anne", "carol");
+        assertEquals(List.of("anna", "annabel"), index.search("an", 10));
+        assertEquals(UsernameIndex.Availability.TAKEN, index.check("carol", null));
+        assertEquals(UsernameIndex.Availability.AVAILABLE, index.check("anne", null));
+    }
+}
@@ -0,0 +1,119 @@
+package com.app.localgroup.user.block;
+
+import com.app.localgroup.support.MongoStandIn;
+import com.app.localgroup.user.model.User;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * BlockListCache against the local Mongo stand-in. A second cache over the
+ * same database plays the part of another application node.
+ */
+@DisplayName("BlockListCache - cached block sets and atomic blocking")
+class BlockListCacheTests {
+
+    private static MongoClient client;
+    private static MongoTemplate template;
+
+    private BlockListCache nodeA;
+    private BlockListCache nodeB;
+
+    @BeforeAll
+    static void connect() {
+        assumeTrue(MongoStandIn.isAvailable(), "No Docker or TEST_MONGODB_URI; skipping block list cache tests");
+        client = MongoClients.create(MongoStandIn.connectionString("block_list_tests"));
+        template = new MongoTemplate(client, "block_list_tests");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (client != null) client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        template.dropCollection(User.class);
+        template.save(User.builder().id("u1").email("u1@x.com").phone("1").blockedUsers(new ArrayList<>(List.of("u2"))).build());
+        template.save(User.builder().id("u3").email("u3@x.com").phone("3").build());
+        nodeA = new BlockListCache(template, 100, 60_000);
+        nodeB = new BlockListCache(template, 100, 60_000);
+    }
+
+    @Test
+    @DisplayName("Lookups load the set once and answer from an immutable copy")
+    void lookupsUseImmutableCachedSet() {
+        assertTrue(nodeA.isBlocked("u1", "u2"));
+        assertFalse(nodeA.isBlocked("u1", "u3"));
+
+        Set<String> blocked = nodeA.blockedBy("u1");
+        assertEquals(Set.of("u2"), blocked);
+        assertThrows(UnsupportedOperationException.class, () -> blocked.add("u3"));
+        assertEquals(1, nodeA.cache().misses());
+        assertEquals(2, nodeA.cache().hits());
+
+        assertEquals(Set.of(), nodeA.blockedBy("u3"));
+        assertEquals(Set.of(), nodeA.blockedBy("missing"));
+    }
+
+    @Test
+    @DisplayName("Blocking refreshes this node's cached set; other nodes keep theirs until it expires")
+    void blockRefreshesLocalCache() {
+        assertFalse(nodeA.isBlocked("u1", "u3"));
+        assertFalse(nodeB.isBlocked("u1", "u3"));
+
+        assertTrue(nodeA.block("u1", "u3"));
+
+        assertTrue(nodeA.isBlocked("u1", "u3"));
+        assertFalse(nodeB.isBlocked("u1", "u3"), "node B serves its cached set until the TTL");
+        nodeB.cache().invalidate("u1");
+        assertTrue(nodeB.isBlocked("u1", "u3"));
+    }
+
+    @Test
+    @DisplayName("$addToSet keeps one entry per user and loses no concurrent block")
+    void concurrentBlocksAllLand() throws Exception {
+        List<String> targets = new ArrayList<>();
+        for (int i = 0; i < 20; i++) targets.add("t" + i);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (String target : targets) {
+                BlockListCache node = results.size() % 2 == 0 ? nodeA : nodeB;
+                results.add(pool.submit(() -> node.block("u3", target)));
+            }
+            for (Future<Boolean> result : results) assertTrue(result.get());
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(nodeA.block("u3", "t0"));
+
+        List<String> stored = template.findById("u3", User.class).getBlockedUsers();
+        assertEquals(targets.size(), stored.size());
+        assertEquals(Set.copyOf(targets), Set.copyOf(stored));
+    }
+
+    @Test
+    @DisplayName("Blocking as an unknown user changes nothing")
+    void unknownBlocker() {
+        assertFalse(nodeA.block("missing", "u2"));
+        assertNull(template.findById("missing", User.class));
+        assertEquals(Set.of(), nodeA.blockedBy("missing"));
+    }
+}
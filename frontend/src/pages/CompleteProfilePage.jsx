@@ -19,6 +19,7 @@ export default function CompleteProfilePage() {
     const [bio, setBio] = useState(user?.bio || '');
     const [loading, setLoading] = useState(false);
     const [error, setError] = useState('');
+    const [usernameHint, setUsernameHint] = useState(null);
 
     useEffect(() => {
         if (!isAuthenticated) {
@@ -37,6 +38,28 @@ export default function CompleteProfilePage() {
         }
     }, [user]);
 
+    // Live availability check (served from the backend's in-memory username index)
+    useEffect(() => {
+        const candidate = username.trim();
+        if (user?.username || !/^[a-zA-Z0-9_]{3,25}$/.test(candidate)) {
+            setUsernameHint(null);
+            return undefined;
+        }
+        let cancelled = false;
+        const timer = setTimeout(async () => {
+            try {
+                const res = await userService.checkUsername(candidate);
+                if (!cancelled) setUsernameHint({ available: Boolean(res?.data), message: res?.message });
+            } catch {
+                if (!cancelled) setUsernameHint(null);
+            }
+        }, 250);
+        return () => {
+            cancelled = true;
+            clearTimeout(timer);
+        };
+    }, [username, user?.username]);
+
     const handleSubmit = async (e) => {
         e.preventDefault();
         setError('');
@@ -121,7 +144,9 @@ export default function CompleteProfilePage() {
                         disabled={Boolean(user?.username)}
                     />
                     <span className="cp-field-hint">
-                        3–25 characters, letters, numbers, and underscores only.
+                        {usernameHint
+                            ? usernameHint.message
+                            : '3–25 characters, letters, numbers, and underscores only.'}
                     </span>
 
                     <Input
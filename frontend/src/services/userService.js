@@ -6,16 +6,34 @@ export const userService = {
     },
 
     async updateProfile(profileData) {
-        return apiClient('/users/profile', {
+        const response = await apiClient('/users/profile', {
             method: 'PATCH',
             body: profileData,
         });
+        // The backend re-issues the JWT so its profile claims stay current
+        if (response?.data?.token) {
+            localStorage.setItem('jwt_token', response.data.token);
+        }
+        return response;
     },
 
     async getPublicProfile(userId) {
         return apiClient(`/users/${userId}`);
     },
 
+    async checkUsername(username) {
+        return apiClient(`/users/username-available?username=${encodeURIComponent(username)}`);
+    },
+
+    async searchUsernames(prefix, limit = 10) {
+        return apiClient(`/users/search?prefix=${encodeURIComponent(prefix)}&limit=${limit}`);
+    },
+
+    async getPublicProfiles(userIds) {
+        const ids = userIds.map(encodeURIComponent).join(',');
+        return apiClient(`/users/public?ids=${ids}`);
+    },
+
     async getTrustScore() {
         return apiClient('/users/trust-score');
     },